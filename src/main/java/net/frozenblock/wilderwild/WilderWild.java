@@ -20,8 +20,12 @@ package net.frozenblock.wilderwild;
 
 import java.util.ArrayList;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.loader.api.ModContainer;
 import net.frozenblock.lib.FrozenBools;
 import net.frozenblock.lib.config.api.instance.ConfigModification;
@@ -29,21 +33,29 @@ import net.frozenblock.lib.config.api.registry.ConfigRegistry;
 import net.frozenblock.lib.entrypoint.api.FrozenModInitializer;
 import net.frozenblock.lib.mobcategory.api.entrypoint.FrozenMobCategoryEntrypoint;
 import net.frozenblock.lib.mobcategory.impl.FrozenMobCategory;
+import net.frozenblock.wilderwild.block.impl.ticker.BlockTickerManager;
+import net.frozenblock.wilderwild.command.MobCensusCommand;
 import net.frozenblock.wilderwild.command.SpreadSculkCommand;
+import net.frozenblock.wilderwild.command.StoneChestLidCommand;
+import net.frozenblock.wilderwild.command.TermiteMoundCommand;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.datafix.minecraft.WWMinecraftDataFixer;
 import net.frozenblock.wilderwild.datafix.wilderwild.WWDataFixer;
-import net.frozenblock.wilderwild.entity.Crab;
-import net.frozenblock.wilderwild.entity.Jellyfish;
 import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.frozenblock.wilderwild.entity.ai.termite.TermiteBlockStateFlags;
+import net.frozenblock.wilderwild.entity.ai.termite.TermiteLevelManager;
+import net.frozenblock.wilderwild.entity.impl.MobCensus;
 import net.frozenblock.wilderwild.mod_compat.WWModIntegrations;
 import net.frozenblock.wilderwild.networking.WWNetworking;
+import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
+import net.frozenblock.wilderwild.registry.WWAttachmentTypes;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
 import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.registry.WWCriteria;
 import net.frozenblock.wilderwild.registry.WWDamageTypes;
 import net.frozenblock.wilderwild.registry.WWDataComponents;
+import net.frozenblock.wilderwild.registry.WWEntityDataSerializers;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
 import net.frozenblock.wilderwild.registry.WWFeatures;
 import net.frozenblock.wilderwild.registry.WWGameEvents;
@@ -60,6 +72,7 @@ import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.registry.WWVillagers;
 import net.frozenblock.wilderwild.registry.WWWorldgen;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
+import net.frozenblock.wilderwild.wind.SectionWindCache;
 import net.frozenblock.wilderwild.worldgen.modification.WWWorldGen;
 import org.jetbrains.annotations.NotNull;
 
@@ -79,6 +92,7 @@ public final class WilderWild extends FrozenModInitializer implements FrozenMobC
 		WWDataFixer.applyDataFixes(container);
 
 		WWDataComponents.init();
+		WWAttachmentTypes.init();
 		WilderWildRegistries.initRegistry();
 		WWBlocks.registerBlocks();
 		WWItems.registerItems();
@@ -89,6 +103,7 @@ public final class WilderWild extends FrozenModInitializer implements FrozenMobC
 		WWSoundTypes.init();
 		WWBlockEntityTypes.register();
 		WWEntityTypes.init();
+		WWEntityDataSerializers.init();
 		WWDamageTypes.init();
 		WWMemoryModuleTypes.register();
 		WWSensorTypes.register();
@@ -109,15 +124,33 @@ public final class WilderWild extends FrozenModInitializer implements FrozenMobC
 		WWVillagers.register();
 
 		ServerLifecycleEvents.SERVER_STOPPED.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
-			Crab.clearLevelToCrabCount();
+			MobCensus.clear();
+			TermiteLevelManager.clear();
+			BlockTickerManager.clear();
+			WWStoneChestLidPacket.resetCounters();
+			SectionWindCache.clear();
 		});
-		ServerTickEvents.START_SERVER_TICK.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
-			Crab.clearLevelToCrabCount();
+		ServerEntityEvents.ENTITY_LOAD.register(MobCensus::onEntityLoad);
+		ServerEntityEvents.ENTITY_UNLOAD.register(MobCensus::onEntityUnload);
+		ServerTickEvents.END_WORLD_TICK.register(TermiteLevelManager::tickLevel);
+		ServerTickEvents.END_WORLD_TICK.register(BlockTickerManager::tickLevel);
+		ServerChunkEvents.CHUNK_LOAD.register(BlockTickerManager::onChunkLoad);
+		ServerWorldEvents.UNLOAD.register((server, level) -> {
+			MobCensus.removeLevel(level);
+			TermiteLevelManager.removeLevel(level);
+			BlockTickerManager.removeLevel(level);
+			SectionWindCache.removeLevel(level);
+		});
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+			if (!client) TermiteBlockStateFlags.rebuild();
 		});
 
-		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> SpreadSculkCommand.register(dispatcher));
+		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
+			MobCensusCommand.register(dispatcher, registryAccess);
+			SpreadSculkCommand.register(dispatcher);
+			StoneChestLidCommand.register(dispatcher);
+			TermiteMoundCommand.register(dispatcher);
+		});
 
 		WWModIntegrations.init();
 
@@ -22,6 +22,7 @@ import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.frozenblock.lib.config.frozenlib_config.FrozenLibConfig;
@@ -36,8 +37,12 @@ import net.frozenblock.wilderwild.client.WWModelLayers;
 import net.frozenblock.wilderwild.client.WWParticleEngine;
 import net.frozenblock.wilderwild.client.WWTints;
 import net.frozenblock.wilderwild.client.debug.OstrichDebugRenderer;
+import net.frozenblock.wilderwild.client.debug.WindFieldDebugRenderer;
 import net.frozenblock.wilderwild.entity.render.easter.WilderEasterEggs;
+import net.frozenblock.wilderwild.entity.render.renderer.FireflyBillboardBatch;
 import net.frozenblock.wilderwild.networking.WWClientNetworking;
+import net.frozenblock.wilderwild.particle.impl.OrientedParticleQuads;
+import net.minecraft.client.Minecraft;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackType;
 import net.minecraft.server.packs.resources.ResourceManager;
@@ -62,6 +67,10 @@ public final class WilderWildClient implements ClientModInitializer {
 
 		WWClientNetworking.registerPacketReceivers();
 
+		WorldRenderEvents.START.register(context -> OrientedParticleQuads.setCamera(context.camera()));
+		WorldRenderEvents.BEFORE_ENTITIES.register(context -> FireflyBillboardBatch.WORLD.begin(context.consumers(), Minecraft.getInstance().getDebugOverlay().showDebugScreen()));
+		WorldRenderEvents.AFTER_ENTITIES.register(context -> FireflyBillboardBatch.WORLD.end());
+
 		ResourceManagerHelper.get(PackType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
 			@Override
 			public ResourceLocation getFabricId() {
@@ -86,6 +95,9 @@ public final class WilderWildClient implements ClientModInitializer {
 			DebugRenderManager.addClearRunnable(ostrichDebugRenderer::clear);
 
 			DebugRenderManager.registerRenderer(WWConstants.id("ostrich"), ostrichDebugRenderer::render);
+
+			WindFieldDebugRenderer windFieldDebugRenderer = new WindFieldDebugRenderer(client);
+			DebugRenderManager.registerRenderer(WWConstants.id("wind_field"), windFieldDebugRenderer::render);
 		});
 	}
 
@@ -186,7 +186,11 @@ public class GeyserBlock extends BaseEntityBlock {
 	public void tick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource random) {
 		GeyserType geyserType = getGeyserTypeForPos(level, state, pos);
 		if (geyserType != state.getValue(GEYSER_TYPE)) {
-			level.setBlock(pos, state.setValue(GEYSER_TYPE, geyserType), UPDATE_ALL);
+			state = state.setValue(GEYSER_TYPE, geyserType);
+			level.setBlock(pos, state, UPDATE_ALL);
+		}
+		if (level.getBlockEntity(pos) instanceof GeyserBlockEntity geyser) {
+			geyser.onScheduledTick(level, pos, state, random);
 		}
 	}
 
@@ -252,6 +252,7 @@ public class StoneChestBlock extends ChestBlock {
 					}
 					StoneChestBlockEntity.playSound(level, pos, state, first ? WWSounds.BLOCK_STONE_CHEST_OPEN : WWSounds.BLOCK_STONE_CHEST_LIFT, first ? WWSounds.BLOCK_STONE_CHEST_OPEN_UNDERWATER : WWSounds.BLOCK_STONE_CHEST_LIFT_UNDERWATER, 0.35F);
 					level.gameEvent(player, GameEvent.CONTAINER_OPEN, pos);
+					stoneChest.sendLidKeyframe();
 				}
 			}
 			StoneChestBlockEntity otherChest = getOtherChest(level, pos, state);
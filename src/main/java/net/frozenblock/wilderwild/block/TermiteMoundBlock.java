@@ -115,7 +115,11 @@ public class TermiteMoundBlock extends BaseEntityBlock {
 		if (evaluatedState != state) {
 			level.setBlockAndUpdate(pos, evaluatedState);
 		}
-		level.scheduleTick(pos, this, random.nextInt(MIN_TICK_DELAY, MAX_TICK_DELAY));
+		int delay = random.nextInt(MIN_TICK_DELAY, MAX_TICK_DELAY);
+		if (level.getBlockEntity(pos) instanceof TermiteMoundBlockEntity termiteMoundBlockEntity) {
+			delay = termiteMoundBlockEntity.onScheduledTick(level, evaluatedState, delay);
+		}
+		level.scheduleTick(pos, this, delay);
 	}
 
 	public BlockState evaluateMoundBlockStateAtPosition(@NotNull BlockState moundState, Level level, BlockPos pos) {
@@ -160,7 +164,7 @@ public class TermiteMoundBlock extends BaseEntityBlock {
 		return !level.isClientSide ?
 			createTickerHelper(type, WWBlockEntityTypes.TERMITE_MOUND, (worldx, pos, statex, blockEntity) ->
 				blockEntity.tickServer(
-					worldx,
+					(ServerLevel) worldx,
 					pos,
 					statex.getValue(WWBlockStateProperties.NATURAL),
 					statex.getValue(WWBlockStateProperties.TERMITES_AWAKE),
@@ -276,11 +276,13 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 		public int age;
 		public double y;
 		public boolean wasNamedNectar;
+		private final boolean nectar;
 
 		public Occupant(@NotNull Vec3 pos, @NotNull FireflyColor color, @NotNull String customName, boolean flickers, int age, double y) {
 			this.pos = pos;
 			this.color = color;
 			this.customName = customName;
+			this.nectar = Firefly.isNectarName(customName);
 			this.flickers = flickers;
 			this.age = age;
 			this.y = y;
@@ -289,7 +291,7 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 		public void tick(Level level, BlockPos pos) {
 			this.age += 1;
 			this.y = Math.sin(this.age * 0.03D) * 0.15D;
-			boolean isNectar = this.getCustomName().toLowerCase().contains("nectar");
+			boolean isNectar = this.nectar;
 
 			if (isNectar != wasNamedNectar) {
 				if (isNectar) {
@@ -320,6 +322,10 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 			return this.customName;
 		}
 
+		public boolean isNectar() {
+			return this.nectar;
+		}
+
 		public boolean getFlickers() {
 			return this.flickers;
 		}
@@ -18,8 +18,10 @@
 
 package net.frozenblock.wilderwild.block.entity;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.loader.api.FabricLoader;
@@ -28,6 +30,7 @@ import net.frozenblock.lib.wind.api.WindDisturbance;
 import net.frozenblock.lib.wind.api.WindDisturbanceLogic;
 import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.block.GeyserBlock;
+import net.frozenblock.wilderwild.block.impl.BlockEntityTickerUtil;
 import net.frozenblock.wilderwild.block.property.GeyserStage;
 import net.frozenblock.wilderwild.block.property.GeyserType;
 import net.frozenblock.wilderwild.mod_compat.FrozenLibIntegration;
@@ -49,6 +52,7 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.FluidTags;
+import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntitySelector;
@@ -66,10 +70,13 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class GeyserBlockEntity extends BlockEntity {
 	private static final WindDisturbanceLogic<GeyserBlockEntity> DUMMY_WIND_LOGIC = new WindDisturbanceLogic<>((source, level1, windOrigin, affectedArea, windTarget) -> WindDisturbance.DUMMY_RESULT);
 	public static final double ERUPTION_DISTANCE = 6D;
+	private static final int ERUPTION_COLUMN_LENGTH = 5;
+	private static final Predicate<Entity> ERUPTION_ENTITY_SELECTOR = EntitySelector.ENTITY_STILL_ALIVE.and(EntitySelector.NO_SPECTATORS);
 	public static final int MIN_ACTIVE_TICKS = 100;
 	public static final int MAX_ACTIVE_TICKS = 200;
 	public static final int MIN_DORMANT_TICKS = 400;
@@ -86,8 +93,22 @@ public class GeyserBlockEntity extends BlockEntity {
 	public static final double BASE_WIND_INTENSITY = 0.5D;
 	public static final int FIRE_TICKS_MAX = 260;
 	private boolean hasRunFirstCheck = false;
-	private int tickUntilNextEvent;
+	/**
+	 * The game time at which the geyser moves on to its next stage.
+	 * <p>
+	 * Geysers that are dormant or active don't tick, and are instead woken by a scheduled block tick at this time.
+	 */
+	private long nextEventTime;
+	private int legacyTicksUntilNextEvent = -1;
+	/**
+	 * Whether the geyser stopped ticking because it was blocked, in which case its dormant cooldown restarts once it's unblocked.
+	 */
+	private boolean blocked;
 	private float eruptionProgress;
+	private final BlockState[] eruptionColumn = new BlockState[ERUPTION_COLUMN_LENGTH];
+	private final List<Entity> eruptionEntities = new ArrayList<>();
+	@Nullable
+	private EruptionGeometry eruptionGeometry;
 
 	public GeyserBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(WWBlockEntityTypes.GEYSER, pos, state);
@@ -98,29 +119,94 @@ public class GeyserBlockEntity extends BlockEntity {
 		GeyserStage geyserStage = state.getValue(GeyserBlock.GEYSER_STAGE);
 		Direction direction = state.getValue(GeyserBlock.FACING);
 		boolean natural = state.getValue(GeyserBlock.NATURAL);
+		long gameTime = level.getGameTime();
+		if (this.legacyTicksUntilNextEvent >= 0) {
+			this.nextEventTime = gameTime + this.legacyTicksUntilNextEvent;
+			this.legacyTicksUntilNextEvent = -1;
+			this.setChanged();
+		}
 
 		if (!this.hasRunFirstCheck) {
 			level.scheduleTick(pos, this.getBlockState().getBlock(), level.random.nextInt(TICK_DELAY_START_MIN, TICK_DELAY_START_MAX));
 			this.hasRunFirstCheck = true;
+			this.setChanged();
 		} else if (GeyserBlock.isActive(geyserType)) {
+			this.unblock(level, geyserStage, random);
 			if (geyserStage == GeyserStage.ERUPTING) {
 				if (this.eruptionProgress == 0F) {
-					this.tickUntilNextEvent = natural ? random.nextInt(MIN_ERUPTION_TICKS, MAX_ERUPTION_TICKS) : ERUPTION_TICKS_UNNATURAL;
+					this.nextEventTime = gameTime + (natural ? random.nextInt(MIN_ERUPTION_TICKS, MAX_ERUPTION_TICKS) : ERUPTION_TICKS_UNNATURAL);
 					level.playSound(null, pos, geyserType.getEruptionSound(), SoundSource.BLOCKS, 0.7F, 0.9F + (random.nextFloat() * 0.2F));
 				}
-				this.eruptionProgress = Math.min(1F, this.eruptionProgress + ERUPTION_PROGRESS_INTERVAL);
+				float eruptionProgress = Math.min(1F, this.eruptionProgress + ERUPTION_PROGRESS_INTERVAL);
+				if (eruptionProgress != this.eruptionProgress) {
+					this.eruptionProgress = eruptionProgress;
+					this.setChanged();
+				}
 				this.handleEruption(level, pos, geyserType, direction);
-			}
-			this.tickUntilNextEvent -= 1;
-			if (this.tickUntilNextEvent <= 0) {
-				this.advanceStage(level, pos, state, geyserStage, natural, random);
+				if (gameTime >= this.nextEventTime) {
+					this.advanceStage(level, pos, state, geyserStage, natural, random);
+				}
+			} else {
+				this.sleepUntilNextEvent(level, pos, state, geyserStage, natural);
 			}
 		} else {
-			this.setDormant(level, pos, state, random);
+			if (geyserStage != GeyserStage.DORMANT) {
+				this.setDormant(level, pos, state, random);
+			} else {
+				this.resetDormantCooldown(level, random);
+			}
+			this.blocked = true;
+			BlockEntityTickerUtil.removeTicker(this);
 		}
+	}
+
+	/**
+	 * Restarts the dormant cooldown of a geyser that was blocked, as a blocked geyser keeps resetting it until it's unblocked.
+	 */
+	private void unblock(@NotNull Level level, GeyserStage geyserStage, RandomSource random) {
+		if (this.blocked) {
+			this.blocked = false;
+			if (geyserStage == GeyserStage.DORMANT) {
+				this.resetDormantCooldown(level, random);
+			}
+		}
+	}
+
+	private void resetDormantCooldown(@NotNull Level level, @NotNull RandomSource random) {
+		this.nextEventTime = level.getGameTime() + random.nextInt(MIN_DORMANT_TICKS, MAX_DORMANT_TICKS);
 		this.setChanged();
 	}
 
+	/**
+	 * Stops ticking until the next stage is due, scheduling a block tick to wake the geyser then.
+	 * <p>
+	 * Unnatural geysers only erupt when powered, so while dormant they have no next stage to wait for.
+	 */
+	private void sleepUntilNextEvent(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, GeyserStage geyserStage, boolean natural) {
+		if (natural || geyserStage != GeyserStage.DORMANT) {
+			level.scheduleTick(pos, state.getBlock(), (int) Mth.clamp(this.nextEventTime - level.getGameTime(), 1L, Integer.MAX_VALUE));
+		}
+		BlockEntityTickerUtil.removeTicker(this);
+	}
+
+	/**
+	 * Called from the geyser's scheduled tick, advancing its stage once the next stage is due.
+	 * <p>
+	 * Scheduled ticks aren't added while another is pending, so a tick arriving early schedules another for the remaining time.
+	 */
+	public void onScheduledTick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, RandomSource random) {
+		GeyserStage geyserStage = state.getValue(GeyserBlock.GEYSER_STAGE);
+		boolean natural = state.getValue(GeyserBlock.NATURAL);
+		if (!this.hasRunFirstCheck || this.legacyTicksUntilNextEvent >= 0 || geyserStage == GeyserStage.ERUPTING || !GeyserBlock.isActive(state.getValue(GeyserBlock.GEYSER_TYPE))) return;
+		if (!natural && geyserStage == GeyserStage.DORMANT) return;
+		this.unblock(level, geyserStage, random);
+		if (level.getGameTime() >= this.nextEventTime) {
+			this.advanceStage(level, pos, state, geyserStage, natural, random);
+		} else {
+			this.sleepUntilNextEvent(level, pos, state, geyserStage, natural);
+		}
+	}
+
 	private static boolean canEruptionPassThrough(Level level, BlockPos pos, @NotNull BlockState state, @NotNull Direction direction) {
 		return !((state.isFaceSturdy(level, pos, direction.getOpposite(), SupportType.CENTER) && !state.is(WWBlockTags.GEYSER_CAN_PASS_THROUGH))
 				|| state.is(WWBlockTags.GEYSER_CANNOT_PASS_THROUGH));
@@ -139,70 +225,55 @@ public class GeyserBlockEntity extends BlockEntity {
 		);
 	}
 
-	private void handleEruption(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
-		BlockPos maxEndPos = pos.relative(direction, (int) ERUPTION_DISTANCE);
-		Optional<BlockPos> cutoffPos = Optional.empty();
-		Optional<BlockPos> damageCutoffPos = Optional.empty();
+	/**
+	 * Reads the blocks along the eruption's path, returning whether they differ from those the current {@link EruptionGeometry} was built from.
+	 */
+	private boolean scanEruptionColumn(@NotNull Level level, @NotNull BlockPos pos, @NotNull Direction direction) {
+		boolean changed = false;
 		BlockPos.MutableBlockPos mutablePos = pos.mutable();
-		for (int i = 0; i < 5; i++) {
-			if (level.hasChunkAt(mutablePos.move(direction))) {
-				BlockState state = level.getBlockState(mutablePos);
-				if (!canEruptionPassThrough(level, mutablePos, state, direction)) {
-					break;
-				}
-				boolean mismatchesAir = geyserType == GeyserType.AIR && !state.getFluidState().isEmpty();
-				boolean mismatchesWater = geyserType == GeyserType.WATER && !state.getFluidState().is(Fluids.WATER);
-				boolean mismatchesLava = geyserType == GeyserType.LAVA && !state.getFluidState().is(Fluids.LAVA);
-				if (mismatchesAir || mismatchesWater || mismatchesLava) {
-					if (cutoffPos.isEmpty()) cutoffPos = Optional.of(mutablePos.immutable());
-				}
-				if (geyserType == GeyserType.LAVA && state.getFluidState().is(FluidTags.WATER)) {
-					if (damageCutoffPos.isEmpty()) damageCutoffPos = Optional.of(mutablePos.immutable());
-				}
+		for (int i = 0; i < ERUPTION_COLUMN_LENGTH; i++) {
+			mutablePos.move(direction);
+			BlockState state = level.hasChunkAt(mutablePos) ? level.getBlockState(mutablePos) : null;
+			if (state != this.eruptionColumn[i]) {
+				this.eruptionColumn[i] = state;
+				changed = true;
 			}
 		}
-		AABB eruption = aabb(pos, mutablePos.immutable());
-		mutablePos.move(direction.getOpposite());
-
-		AABB effectiveEruption = cutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
-		AABB damagingEruption = damageCutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
-
-		AABB maxPossibleEruptionBox = getPossibleEruptionBoundingBox(pos, maxEndPos);
-		List<Entity> entities = level.getEntities(
-			EntityTypeTest.forClass(Entity.class),
-			maxPossibleEruptionBox,
-			EntitySelector.ENTITY_STILL_ALIVE.and(EntitySelector.NO_SPECTATORS)
-		);
-		Vec3 geyserStartPos = Vec3.atCenterOf(pos);
+		return changed;
+	}
 
-		WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
-			Optional.of(this),
-			geyserStartPos,
-			effectiveEruption.inflate(0.5D).move(direction.step().mul(0.5F)),
-			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_EFFECTIVE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
-		);
-		WindDisturbance<GeyserBlockEntity> baseWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
-			Optional.of(this),
-			geyserStartPos,
-			eruption.inflate(0.5D).move(direction.step().mul(0.5F)),
-			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_BASE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
-		);
+	@NotNull
+	private EruptionGeometry getEruptionGeometry(@NotNull Level level, @NotNull BlockPos pos, GeyserType geyserType, @NotNull Direction direction) {
+		boolean columnChanged = this.scanEruptionColumn(level, pos, direction);
+		EruptionGeometry geometry = this.eruptionGeometry;
+		if (columnChanged || geometry == null || geometry.geyserType != geyserType || geometry.direction != direction) {
+			geometry = new EruptionGeometry(this, level, pos, geyserType, direction);
+			this.eruptionGeometry = geometry;
+		}
+		return geometry;
+	}
+
+	private void handleEruption(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+		EruptionGeometry geometry = this.getEruptionGeometry(level, pos, geyserType, direction);
+		AABB eruption = geometry.eruption;
+		AABB effectiveEruption = geometry.effectiveEruption;
+		AABB damagingEruption = geometry.damagingEruption;
+		AABB maxPossibleEruptionBox = geometry.getPossibleEruptionBoundingBox(pos, this.eruptionProgress);
+		Vec3 geyserStartPos = geometry.geyserStartPos;
 
 		if (level instanceof ServerLevel serverLevel) {
 			WindManager windManager = WindManager.getWindManager(serverLevel);
-			windManager.addWindDisturbance(effectiveWindDisturbance);
-			windManager.addWindDisturbance(baseWindDisturbance);
+			windManager.addWindDisturbance(geometry.effectiveWindDisturbance);
+			windManager.addWindDisturbance(geometry.baseWindDisturbance);
 		} else if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
-			addWindDisturbanceToClient(effectiveWindDisturbance);
-			addWindDisturbanceToClient(baseWindDisturbance);
+			addWindDisturbanceToClient(geometry.effectiveWindDisturbance);
+			addWindDisturbanceToClient(geometry.baseWindDisturbance);
 		}
 
-		Vec3 movement = Vec3.atLowerCornerOf(direction.getNormal());
-		for (Entity entity : entities) {
+		List<Entity> entities = this.eruptionEntities;
+		level.getEntities(EntityTypeTest.forClass(Entity.class), maxPossibleEruptionBox, ERUPTION_ENTITY_SELECTOR, entities);
+		for (int i = 0, size = entities.size(); i < size; i++) {
+			Entity entity = entities.get(i);
 			AABB boundingBox = entity.getBoundingBox();
 			if (eruption.intersects(boundingBox)) {
 				boolean applyMovement = true;
@@ -226,8 +297,11 @@ public class GeyserBlockEntity extends BlockEntity {
 					double intensity = (ERUPTION_DISTANCE - Math.min(entity.position().distanceTo(geyserStartPos), ERUPTION_DISTANCE)) / ERUPTION_DISTANCE;
 					double pushIntensity = (effectiveEruption.intersects(boundingBox) ? EFFECTIVE_PUSH_INTENSITY : INEFFECTIVE_PUSH_INTENSITY) * (entity.getType().is(WWEntityTags.GEYSER_PUSHES_FURTHER) ? 1.5D : 1D);
 					double overallIntensity = intensity * pushIntensity;
-					Vec3 deltaMovement = entity.getDeltaMovement().add(movement.scale(overallIntensity));
-					entity.setDeltaMovement(deltaMovement);
+					entity.setDeltaMovement(entity.getDeltaMovement().add(
+						direction.getStepX() * overallIntensity,
+						direction.getStepY() * overallIntensity,
+						direction.getStepZ() * overallIntensity
+					));
 				}
 				if (damagingEruption.intersects(boundingBox)) {
 					double damageIntensity = Math.max((ERUPTION_DISTANCE - Math.min(entity.position().distanceTo(geyserStartPos), ERUPTION_DISTANCE)) / ERUPTION_DISTANCE, ERUPTION_DISTANCE * 0.1D);
@@ -240,9 +314,12 @@ public class GeyserBlockEntity extends BlockEntity {
 				}
 			}
 		}
+		entities.clear();
 
-		for (BlockPos blockPos : BlockPos.betweenClosed(pos, mutablePos.immutable())) {
-			if (maxPossibleEruptionBox.contains(Vec3.atCenterOf(blockPos)) && level.hasChunkAt(blockPos)) {
+		BlockPos.MutableBlockPos blockPos = pos.mutable();
+		for (int i = 0; i <= geometry.length; i++) {
+			if (i > 0) blockPos.move(direction);
+			if (maxPossibleEruptionBox.contains(blockPos.getX() + 0.5D, blockPos.getY() + 0.5D, blockPos.getZ() + 0.5D) && level.hasChunkAt(blockPos)) {
 				BlockState state = level.getBlockState(blockPos);
 
 				if (geyserType == GeyserType.LAVA) {
@@ -273,25 +350,6 @@ public class GeyserBlockEntity extends BlockEntity {
 		}
 	}
 
-	@NotNull
-	private AABB getPossibleEruptionBoundingBox(@NotNull BlockPos pos, @NotNull BlockPos maxEndPos) {
-		double xDifference = maxEndPos.getX() - pos.getX();
-		double yDifference = maxEndPos.getY() - pos.getY();
-		double zDifference = maxEndPos.getZ() - pos.getZ();
-		double endX = pos.getX() + (xDifference * this.eruptionProgress);
-		double endY = pos.getY() + (yDifference * this.eruptionProgress);
-		double endZ = pos.getZ() + (zDifference * this.eruptionProgress);
-
-        return new AABB(
-			Math.min(pos.getX(), endX),
-			Math.min(pos.getY(), endY),
-			Math.min(pos.getZ(), endZ),
-			Math.max(pos.getX(), endX) + 1D,
-			Math.max(pos.getY(), endY) + 1D,
-			Math.max(pos.getZ(), endZ) + 1D
-		);
-	}
-
 	public void advanceStage(Level level, BlockPos pos, @NotNull BlockState state, GeyserStage geyserStage, boolean natural, RandomSource random) {
 		if (geyserStage == GeyserStage.ERUPTING || !natural) {
 			this.eruptionProgress = 0F;
@@ -310,10 +368,11 @@ public class GeyserBlockEntity extends BlockEntity {
 	public void setStageAndCooldown(@NotNull Level level, BlockPos pos, @NotNull BlockState state, GeyserStage geyserStage, RandomSource random) {
 		level.setBlock(pos, state.setValue(GeyserBlock.GEYSER_STAGE, geyserStage), Block.UPDATE_ALL);
 		if (geyserStage == GeyserStage.ACTIVE) {
-			this.tickUntilNextEvent = random.nextInt(MIN_ACTIVE_TICKS, MAX_ACTIVE_TICKS);
+			this.nextEventTime = level.getGameTime() + random.nextInt(MIN_ACTIVE_TICKS, MAX_ACTIVE_TICKS);
 		} else if (geyserStage != GeyserStage.ERUPTING) { // Eruption duration is set in serverTick to work with Redstone properly
-			this.tickUntilNextEvent = random.nextInt(MIN_DORMANT_TICKS, MAX_DORMANT_TICKS);
+			this.nextEventTime = level.getGameTime() + random.nextInt(MIN_DORMANT_TICKS, MAX_DORMANT_TICKS);
 		}
+		this.setChanged();
 	}
 
 	@Environment(EnvType.CLIENT)
@@ -345,7 +404,11 @@ public class GeyserBlockEntity extends BlockEntity {
 	protected void saveAdditional(@NotNull CompoundTag tag, HolderLookup.Provider provider) {
 		super.saveAdditional(tag, provider);
 		tag.putBoolean("HasRunFirstCheck", this.hasRunFirstCheck);
-		tag.putInt("TicksUntilNextEvent", this.tickUntilNextEvent);
+		if (this.legacyTicksUntilNextEvent >= 0) {
+			tag.putInt("TicksUntilNextEvent", this.legacyTicksUntilNextEvent);
+		} else {
+			tag.putLong("NextEventTime", this.nextEventTime);
+		}
 		tag.putFloat("EruptionProgress", this.eruptionProgress);
 	}
 
@@ -353,7 +416,12 @@ public class GeyserBlockEntity extends BlockEntity {
 	public void loadAdditional(@NotNull CompoundTag tag, HolderLookup.Provider provider) {
 		super.loadAdditional(tag, provider);
 		this.hasRunFirstCheck = tag.getBoolean("HasRunFirstCheck");
-		this.tickUntilNextEvent = tag.getInt("TicksUntilNextEvent");
+		if (tag.contains("NextEventTime")) {
+			this.nextEventTime = tag.getLong("NextEventTime");
+			this.legacyTicksUntilNextEvent = -1;
+		} else {
+			this.legacyTicksUntilNextEvent = Math.max(0, tag.getInt("TicksUntilNextEvent"));
+		}
 		this.eruptionProgress = tag.getFloat("EruptionProgress");
 	}
 
@@ -612,4 +680,98 @@ public class GeyserBlockEntity extends BlockEntity {
 		}
 	}
 
+	/**
+	 * The areas covered by a geyser's eruption, which only change when the blocks along its path do.
+	 */
+	private static final class EruptionGeometry {
+		private final GeyserType geyserType;
+		private final Direction direction;
+		/**
+		 * How many blocks past the geyser the eruption reaches.
+		 */
+		private final int length;
+		private final AABB eruption;
+		private final AABB effectiveEruption;
+		private final AABB damagingEruption;
+		private final Vec3 geyserStartPos;
+		private final BlockPos maxEndPos;
+		private final WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance;
+		private final WindDisturbance<GeyserBlockEntity> baseWindDisturbance;
+		private float possibleEruptionProgress = -1F;
+		private AABB possibleEruptionBox;
+
+		private EruptionGeometry(@NotNull GeyserBlockEntity geyser, @NotNull Level level, @NotNull BlockPos pos, GeyserType geyserType, @NotNull Direction direction) {
+			this.geyserType = geyserType;
+			this.direction = direction;
+			this.maxEndPos = pos.relative(direction, (int) ERUPTION_DISTANCE);
+
+			BlockPos cutoffPos = null;
+			BlockPos damageCutoffPos = null;
+			BlockPos.MutableBlockPos mutablePos = pos.mutable();
+			int reached = 0;
+			for (int i = 0; i < ERUPTION_COLUMN_LENGTH; i++) {
+				mutablePos.move(direction);
+				reached = i + 1;
+				BlockState state = geyser.eruptionColumn[i];
+				if (state != null) {
+					if (!canEruptionPassThrough(level, mutablePos, state, direction)) {
+						break;
+					}
+					boolean mismatchesAir = geyserType == GeyserType.AIR && !state.getFluidState().isEmpty();
+					boolean mismatchesWater = geyserType == GeyserType.WATER && !state.getFluidState().is(Fluids.WATER);
+					boolean mismatchesLava = geyserType == GeyserType.LAVA && !state.getFluidState().is(Fluids.LAVA);
+					if (mismatchesAir || mismatchesWater || mismatchesLava) {
+						if (cutoffPos == null) cutoffPos = mutablePos.immutable();
+					}
+					if (geyserType == GeyserType.LAVA && state.getFluidState().is(FluidTags.WATER)) {
+						if (damageCutoffPos == null) damageCutoffPos = mutablePos.immutable();
+					}
+				}
+			}
+			this.eruption = aabb(pos, mutablePos);
+			mutablePos.move(direction.getOpposite());
+			this.length = reached - 1;
+
+			this.effectiveEruption = aabb(pos, cutoffPos != null ? cutoffPos.relative(direction.getOpposite()) : mutablePos);
+			this.damagingEruption = aabb(pos, damageCutoffPos != null ? damageCutoffPos.relative(direction.getOpposite()) : mutablePos);
+			this.geyserStartPos = Vec3.atCenterOf(pos);
+
+			Optional<GeyserBlockEntity> source = Optional.of(geyser);
+			this.effectiveWindDisturbance = new WindDisturbance<>(
+				source,
+				this.geyserStartPos,
+				this.effectiveEruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+				WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_EFFECTIVE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
+			);
+			this.baseWindDisturbance = new WindDisturbance<>(
+				source,
+				this.geyserStartPos,
+				this.eruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+				WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_BASE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
+			);
+		}
+
+		@NotNull
+		private AABB getPossibleEruptionBoundingBox(@NotNull BlockPos pos, float eruptionProgress) {
+			if (eruptionProgress != this.possibleEruptionProgress || this.possibleEruptionBox == null) {
+				double xDifference = this.maxEndPos.getX() - pos.getX();
+				double yDifference = this.maxEndPos.getY() - pos.getY();
+				double zDifference = this.maxEndPos.getZ() - pos.getZ();
+				double endX = pos.getX() + (xDifference * eruptionProgress);
+				double endY = pos.getY() + (yDifference * eruptionProgress);
+				double endZ = pos.getZ() + (zDifference * eruptionProgress);
+
+				this.possibleEruptionBox = new AABB(
+					Math.min(pos.getX(), endX),
+					Math.min(pos.getY(), endY),
+					Math.min(pos.getZ(), endZ),
+					Math.max(pos.getX(), endX) + 1D,
+					Math.max(pos.getY(), endY) + 1D,
+					Math.max(pos.getZ(), endZ) + 1D
+				);
+				this.possibleEruptionProgress = eruptionProgress;
+			}
+			return this.possibleEruptionBox;
+		}
+	}
 }
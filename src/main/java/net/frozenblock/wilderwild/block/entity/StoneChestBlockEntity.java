@@ -21,6 +21,7 @@ package net.frozenblock.wilderwild.block.entity;
 import java.util.ArrayList;
 import java.util.Objects;
 import net.frozenblock.wilderwild.block.StoneChestBlock;
+import net.frozenblock.wilderwild.block.impl.BlockEntityTickerUtil;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
 import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
@@ -95,6 +96,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	public boolean closing;
 
 	protected long updateTime;
+	private boolean sleeping;
 
 	public StoneChestBlockEntity(@NotNull BlockPos blockPos, @NotNull BlockState blockState) {
 		super(WWBlockEntityTypes.STONE_CHEST, blockPos, blockState);
@@ -118,6 +120,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 				if (!stoneChest.closing) {
 					stoneChest.closing = true;
 					playSound(serverLevel, pos, state, WWSounds.BLOCK_STONE_CHEST_CLOSE_START, WWSounds.BLOCK_STONE_CHEST_CLOSE_START_UNDERWATER, 0.3F);
+					stoneChest.sendLidKeyframe();
 				}
 				if (stoneChest.openProgress <= 0F) {
 					stoneChest.onLidSlam(serverLevel, pos, state, otherChest);
@@ -126,6 +129,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 			stoneChest.updateTime = gameTime;
 			stoneChest.syncLidValuesAndUpdate(otherChest);
 		}
+		stoneChest.sleepIfIdle();
 	}
 
 	public static void clientStoneTick(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull StoneChestBlockEntity stoneChest) {
@@ -148,6 +152,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 			stoneChest.updateTime = gameTime;
 			stoneChest.syncLidValuesAndUpdate(otherChest);
 		}
+		stoneChest.sleepIfIdle();
 	}
 
 	public static void playSound(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull SoundEvent soundEvent, @NotNull SoundEvent waterloggedSoundEvent, float volume) {
@@ -175,6 +180,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		this.stillLidTicks = tag.getInt("stillLidTicks");
 		this.cooldownTicks = tag.getInt("cooldownTicks");
 		this.closing = tag.getBoolean("closing");
+		this.wakeUp();
 	}
 
 	@Override
@@ -187,6 +193,34 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		tag.putBoolean("closing", this.closing);
 	}
 
+	/**
+	 * A closed lid with no cooldown has nothing to animate, so the chest stops ticking until its lid is lifted again.
+	 */
+	private boolean isIdle() {
+		return this.openProgress <= 0F && this.prevOpenProgress <= 0F && this.stillLidTicks <= 0 && this.cooldownTicks <= 0 && !this.closing;
+	}
+
+	private void sleepIfIdle() {
+		if (this.isIdle()) {
+			this.sleeping = true;
+			BlockEntityTickerUtil.removeTicker(this);
+		}
+	}
+
+	/**
+	 * Resumes ticking after the lid's values have changed, if the chest had stopped ticking.
+	 */
+	public void wakeUp() {
+		if (this.sleeping && !this.isIdle()) {
+			this.sleeping = false;
+			BlockEntityTickerUtil.restoreTicker(this);
+		}
+	}
+
+	public boolean isSleeping() {
+		return this.sleeping;
+	}
+
 	public float getOpenProgress(float delta) {
 		return Mth.lerp(delta, this.prevOpenProgress, this.openProgress);
 	}
@@ -195,6 +229,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		this.openProgress = Mth.clamp(this.openProgress + (!ancient ? liftAmount * 2F : liftAmount), 0F, MAX_OPEN_PERCENTAGE);
 		this.highestLidPoint = this.openProgress;
 		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * (!ancient ? MAX_TIME_OPEN : MAX_TIME_OPEN_ANCIENT) * WWBlockConfig.get().stoneChest.getStoneChestTimer());
+		this.wakeUp();
 		if (this.level != null) {
 			this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
 		}
@@ -204,6 +239,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		this.openProgress = Mth.clamp(liftAmount, 0F, MAX_OPEN_PERCENTAGE);
 		this.highestLidPoint = this.openProgress;
 		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * MAX_TIME_OPEN_ANCIENT * WWBlockConfig.get().stoneChest.getStoneChestTimer());
+		this.wakeUp();
 		if (this.level != null) {
 			this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
 		}
@@ -259,14 +295,18 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	}
 
 	public void syncLidValuesAndUpdate(@Nullable StoneChestBlockEntity otherStoneChest) {
-		boolean shouldSend = !this.level.isClientSide && this.openProgress != this.prevOpenProgress;
 		if (otherStoneChest != null) {
 			this.syncValues(otherStoneChest);
-			if (shouldSend) {
-				WWStoneChestLidPacket.sendToAll(otherStoneChest);
-			}
 		}
-		if (shouldSend) {
+	}
+
+	/**
+	 * Sends the lid's values to tracking players, who animate the lid themselves until the next keyframe.
+	 * <p>
+	 * One keyframe covers both halves of a double chest.
+	 */
+	public void sendLidKeyframe() {
+		if (this.level != null && !this.level.isClientSide) {
 			WWStoneChestLidPacket.sendToAll(this);
 		}
 	}
@@ -282,6 +322,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		otherStoneChest.cooldownTicks = this.cooldownTicks;
 		otherStoneChest.closing = this.closing;
 		otherStoneChest.updateTime = this.updateTime;
+		otherStoneChest.wakeUp();
 	}
 
 	@Override
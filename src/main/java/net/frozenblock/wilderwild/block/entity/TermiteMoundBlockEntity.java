@@ -23,8 +23,12 @@ import java.util.Objects;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.frozenblock.wilderwild.block.TermiteMoundBlock;
+import net.frozenblock.wilderwild.block.impl.BlockEntityTickerUtil;
 import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.frozenblock.wilderwild.entity.ai.termite.TermiteLevelManager;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
+import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.resources.sounds.AbstractTickableSoundInstance;
@@ -33,10 +37,10 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
@@ -44,18 +48,110 @@ import org.jetbrains.annotations.Nullable;
 
 public class TermiteMoundBlockEntity extends BlockEntity {
 
+	public static final int MIN_SLEEP_TICKS = TermiteMoundBlock.MAX_PLACEMENT_TICK_DELAY;
+
 	public final TermiteManager termiteManager;
 	public final IntArrayList clientTermiteIDs = new IntArrayList();
 	public final IntArrayList prevClientTermiteIDs = new IntArrayList();
+	private boolean sleeping;
+	private long sleepStartTime;
+	/**
+	 * Whether the mound was counting down to its next termite when it went to sleep, as it only counts down while it can release termites.
+	 */
+	private boolean countingDownWhileSleeping;
+	private long skippedTicks;
 
 	public TermiteMoundBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(WWBlockEntityTypes.TERMITE_MOUND, pos, state);
 		this.termiteManager = new TermiteManager();
 	}
 
-	public void tickServer(@NotNull Level level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn) {
-		this.termiteManager.tick(level, pos, natural, awake, canSpawn);
-		this.updateSync();
+	public void tickServer(@NotNull ServerLevel level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn) {
+		this.catchUpSleptTicks(level);
+		if (this.termiteManager.tick(level, pos, natural, awake, canSpawn)) {
+			this.updateSync();
+		}
+		if (this.termiteManager.hasTermites()) {
+			TermiteLevelManager.get(level).trackMound(this);
+		} else {
+			int maxTermites = TermiteManager.maxTermites(natural, awake, canSpawn);
+			if (this.canSleep(maxTermites)) {
+				this.sleeping = true;
+				this.sleepStartTime = level.getGameTime();
+				this.countingDownWhileSleeping = maxTermites > 0;
+				BlockEntityTickerUtil.removeTicker(this);
+			}
+		}
+	}
+
+	/**
+	 * A mound with no termites out only needs to tick to count down to its next termite.
+	 * <p>
+	 * It stops ticking if it cannot release termites at all, or if its next termite is far enough away that a scheduled tick will arrive first.
+	 */
+	private boolean canSleep(int maxTermites) {
+		return maxTermites <= 0 || this.termiteManager.ticksToNextTermite > MIN_SLEEP_TICKS;
+	}
+
+	/**
+	 * Called from the mound's scheduled tick while it's not ticking.
+	 *
+	 * @param delay the delay of the next scheduled tick.
+	 * @return the delay to use for the next scheduled tick, shortened so that the mound wakes in time to release its next termite.
+	 */
+	public int onScheduledTick(@NotNull ServerLevel level, @NotNull BlockState state, int delay) {
+		if (!this.sleeping) return delay;
+		int maxTermites = TermiteManager.maxTermites(
+			state.getValue(WWBlockStateProperties.NATURAL),
+			state.getValue(WWBlockStateProperties.TERMITES_AWAKE),
+			state.getValue(WWBlockStateProperties.CAN_SPAWN_TERMITE)
+		);
+		boolean countingDown = maxTermites > 0;
+		if (countingDown != this.countingDownWhileSleeping) {
+			this.addSleptTicks(level.getGameTime());
+			this.countingDownWhileSleeping = countingDown;
+		}
+		if (!countingDown) return delay;
+		long ticksToNextTermite = this.getTicksToNextTermite(level.getGameTime());
+		if (ticksToNextTermite <= 0L) {
+			BlockEntityTickerUtil.restoreTicker(this);
+			return delay;
+		}
+		return (int) Math.min(delay, ticksToNextTermite);
+	}
+
+	private void catchUpSleptTicks(@NotNull ServerLevel level) {
+		if (this.sleeping) {
+			this.addSleptTicks(level.getGameTime() - 1L);
+			this.sleeping = false;
+		}
+	}
+
+	private void addSleptTicks(long gameTime) {
+		long sleptTicks = Math.max(0L, gameTime - this.sleepStartTime);
+		this.skippedTicks += sleptTicks;
+		this.termiteManager.ticksToNextTermite = (int) this.getTicksToNextTermite(gameTime);
+		this.sleepStartTime = gameTime;
+	}
+
+	/**
+	 * @return the mound's countdown to its next termite, as if it had kept ticking through its current sleep.
+	 */
+	private long getTicksToNextTermite(long gameTime) {
+		int ticksToNextTermite = this.termiteManager.ticksToNextTermite;
+		if (!this.sleeping || !this.countingDownWhileSleeping) return ticksToNextTermite;
+		return Math.max(0L, ticksToNextTermite - Math.max(0L, gameTime - this.sleepStartTime));
+	}
+
+	public boolean isSleeping() {
+		return this.sleeping;
+	}
+
+	/**
+	 * @return how many ticks this mound has skipped while it wasn't ticking, not including its current sleep.
+	 */
+	public long getSkippedTicks() {
+		return this.skippedTicks;
 	}
 
 	public void updateSync() {
@@ -94,6 +190,9 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 	protected void saveAdditional(@NotNull CompoundTag tag, HolderLookup.Provider provider) {
 		super.saveAdditional(tag, provider);
 		this.termiteManager.saveAdditional(tag);
+		if (this.sleeping && this.level != null) {
+			tag.putInt("ticksToNextTermite", (int) this.getTicksToNextTermite(this.level.getGameTime()));
+		}
 	}
 
 	@Override
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Lets idle block entities leave the level's ticker list, and rejoin it later.
+ * <p>
+ * A removed ticker is also restored by the chunk whenever the block entity's block state changes.
+ */
+public class BlockEntityTickerUtil {
+
+	private BlockEntityTickerUtil() {
+	}
+
+	public static void removeTicker(@NotNull BlockEntity blockEntity) {
+		Level level = blockEntity.getLevel();
+		if (level != null && !blockEntity.isRemoved()) {
+			level.getChunkAt(blockEntity.getBlockPos()).removeBlockEntityTicker(blockEntity.getBlockPos());
+		}
+	}
+
+	public static void restoreTicker(@NotNull BlockEntity blockEntity) {
+		Level level = blockEntity.getLevel();
+		if (level != null && !blockEntity.isRemoved()) {
+			level.getChunkAt(blockEntity.getBlockPos()).updateBlockEntityTicker(blockEntity);
+		}
+	}
+}
@@ -23,10 +23,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import net.frozenblock.wilderwild.block.LeafLitterBlock;
-import net.frozenblock.wilderwild.entity.FallingLeafTicker;
+import net.frozenblock.wilderwild.block.impl.ticker.BlockTickerManager;
 import net.frozenblock.wilderwild.particle.options.LeafClusterParticleOptions;
 import net.frozenblock.wilderwild.particle.options.LeafParticleOptions;
-import net.frozenblock.wilderwild.registry.WWEntityTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.BlockParticleOption;
@@ -91,7 +90,17 @@ public class FallingLeafUtil {
 		return PARTICLE_TO_LEAF_PARTICLE_DATA.getOrDefault(leafParticle, DEFAULT_LEAF_PARTICLE_DATA);
 	}
 
-	public static void onRandomTick(@NotNull BlockState state, ServerLevel world, BlockPos pos, RandomSource random) {
+	public static boolean canDropLeafLitter(@NotNull BlockState state) {
+		FallingLeafData fallingLeafData = LEAVES_TO_FALLING_LEAF_DATA.get(state.getBlock());
+		return fallingLeafData != null && fallingLeafData.leafLitterBlock.isPresent();
+	}
+
+	/**
+	 * Rolls for leaf litter to fall from a leaf block, see {@link LeafLitterScheduler}.
+	 *
+	 * @param chanceScale how many times more likely litter should be to fall than its {@link FallingLeafData#litterChance()}.
+	 */
+	public static void tickLeafLitter(@NotNull BlockState state, ServerLevel world, BlockPos pos, RandomSource random, float chanceScale) {
 		if (state.getValue(LeavesBlock.DISTANCE) < 7 && !state.getValue(LeavesBlock.PERSISTENT)) {
 			Block block = state.getBlock();
 
@@ -101,7 +110,7 @@ public class FallingLeafUtil {
 				BlockPos belowPos = pos.below();
 				BlockState belowState = world.getBlockState(belowPos);
 				if (!Block.isFaceFull(belowState.getCollisionShape(world, belowPos), Direction.UP)) {
-					if (random.nextFloat() <= fallingLeafData.litterChance()) {
+					if (random.nextFloat() <= fallingLeafData.litterChance() * chanceScale) {
 						world.sendParticles(
 							new BlockParticleOption(ParticleTypes.BLOCK, state),
 							pos.getX() + 0.5D,
@@ -112,12 +121,7 @@ public class FallingLeafUtil {
 							0.05D
 						);
 						sendLeafClusterParticle(world, pos, fallingLeafData);
-						fallingLeafData.leafLitterBlock.ifPresent(leafLitterBlock -> FallingLeafTicker.createAndSpawn(
-							WWEntityTypes.FALLING_LEAVES,
-							world,
-							pos,
-							leafLitterBlock
-						));
+						fallingLeafData.leafLitterBlock.ifPresent(leafLitterBlock -> BlockTickerManager.get(world).addFallingLeaf(pos, leafLitterBlock));
 					}
 				}
 			}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Drops leaf litter from leaves without making them randomly tick.
+ * <p>
+ * Each chunk is visited once every {@link #INTERVAL} ticks, sampling as many positions per section as random ticking would in one tick,
+ * with the {@link FallingLeafUtil.FallingLeafData#litterChance()} of each sampled leaf block scaled by {@link #INTERVAL} to keep the same expected rate.
+ * Sections whose palette has no leaves that drop litter are skipped.
+ */
+public class LeafLitterScheduler {
+	public static final int INTERVAL = 8;
+
+	private LeafLitterScheduler() {
+	}
+
+	public static void tickChunk(@NotNull ServerLevel level, @NotNull LevelChunk chunk, int randomTickSpeed) {
+		if (randomTickSpeed <= 0) return;
+		ChunkPos chunkPos = chunk.getPos();
+		if (((level.getGameTime() + chunkPos.x * 3L + chunkPos.z * 5L) & (INTERVAL - 1)) != 0) return;
+
+		RandomSource random = level.getRandom();
+		int minX = chunkPos.getMinBlockX();
+		int minZ = chunkPos.getMinBlockZ();
+		LevelChunkSection[] sections = chunk.getSections();
+		for (int sectionIndex = 0; sectionIndex < sections.length; sectionIndex++) {
+			LevelChunkSection section = sections[sectionIndex];
+			if (section.hasOnlyAir() || !section.maybeHas(FallingLeafUtil::canDropLeafLitter)) continue;
+
+			int minY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(sectionIndex));
+			for (int i = 0; i < randomTickSpeed; i++) {
+				int packedPos = random.nextInt(4096);
+				int x = packedPos & 15;
+				int y = (packedPos >> 4) & 15;
+				int z = (packedPos >> 8) & 15;
+				BlockState state = section.getBlockState(x, y, z);
+				if (FallingLeafUtil.canDropLeafLitter(state)) {
+					FallingLeafUtil.tickLeafLitter(state, level, new BlockPos(minX + x, minY + y, minZ + z), random, INTERVAL);
+				}
+			}
+		}
+	}
+}
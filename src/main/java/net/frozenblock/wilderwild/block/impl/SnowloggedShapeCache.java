@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Holds the shapes of a snowlogged {@link net.minecraft.world.level.block.state.BlockState} merged with those of its snow layers, one per kind of shape.
+ * <p>
+ * A merged shape is only kept once the block and the snow return the same shape instances twice in a row, which is the case for almost every block.
+ * Shapes built per call, such as those of offset plants, are merged each time without replacing the stored shape.
+ */
+public final class SnowloggedShapeCache {
+	public static final int COLLISION = 0;
+	public static final int VISUAL = 1;
+	public static final int INTERACTION = 2;
+	public static final int BLOCK_SUPPORT = 3;
+	public static final int OCCLUSION = 4;
+	private static final int KINDS = 5;
+
+	private final Entry[] entries = new Entry[KINDS];
+	/**
+	 * The shapes passed on the previous call for each kind, only used to decide whether to store an entry.
+	 */
+	private final VoxelShape[] lastShapes = new VoxelShape[KINDS];
+	private final VoxelShape[] lastSnowShapes = new VoxelShape[KINDS];
+
+	@NotNull
+	public VoxelShape merge(int kind, @NotNull VoxelShape shape, @NotNull VoxelShape snowShape) {
+		Entry entry = this.entries[kind];
+		if (entry != null && entry.shape == shape && entry.snowShape == snowShape) {
+			return entry.merged;
+		}
+		VoxelShape merged = Shapes.or(shape, snowShape);
+		if (this.lastShapes[kind] == shape && this.lastSnowShapes[kind] == snowShape) {
+			this.entries[kind] = new Entry(shape, snowShape, merged);
+		} else {
+			this.lastShapes[kind] = shape;
+			this.lastSnowShapes[kind] = snowShape;
+		}
+		return merged;
+	}
+
+	private record Entry(VoxelShape shape, VoxelShape snowShape, VoxelShape merged) {
+	}
+}
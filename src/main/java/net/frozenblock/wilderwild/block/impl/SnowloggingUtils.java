@@ -41,11 +41,31 @@ import org.jetbrains.annotations.Nullable;
 public class SnowloggingUtils {
 	public static final IntegerProperty SNOW_LAYERS = WWBlockStateProperties.SNOW_LAYERS;
 	public static final int MAX_LAYERS = 8;
+	/**
+	 * Mirrors {@link WWBlockConfig#SNOWLOGGING} without the volatile read, as it's checked by every shape, sound and map color query.
+	 */
+	private static boolean enabled = true;
 
-	public static boolean supportsSnowlogging(@Nullable BlockState state) {
-		if (!WWBlockConfig.SNOWLOGGING) return false;
+	public static void setEnabled(boolean enabled) {
+		SnowloggingUtils.enabled = enabled;
+	}
+
+	/**
+	 * Reads the snow layers of a state that may not be fully created yet, for use while states are being constructed.
+	 *
+	 * @return the snow layers of the state, or -1 if it can't be snowlogged.
+	 */
+	public static int computeSnowLayers(@NotNull BlockState state) {
 		//noinspection ConstantValue
-		return state != null && state.getValues() != null && state.hasProperty(SNOW_LAYERS);
+		return state.getValues() != null && state.hasProperty(SNOW_LAYERS) ? state.getValue(SNOW_LAYERS) : -1;
+	}
+
+	private static int getCachedSnowLayers(@NotNull BlockState state) {
+		return ((SnowloggableStateInterface) state).wilderWild$getSnowLayers();
+	}
+
+	public static boolean supportsSnowlogging(@Nullable BlockState state) {
+		return enabled && state != null && getCachedSnowLayers(state) >= 0;
 	}
 
 	public static boolean canSnowlog(@Nullable BlockState state) {
@@ -54,16 +74,16 @@ public class SnowloggingUtils {
 	}
 
 	public static int getSnowLayers(@NotNull BlockState state) {
-		return state.getValue(SNOW_LAYERS);
+		return Math.max(0, getCachedSnowLayers(state));
 	}
 
 	public static boolean isSnowlogged(@Nullable BlockState state) {
-		return state != null && supportsSnowlogging(state) && getSnowLayers(state) > 0;
+		return enabled && state != null && getCachedSnowLayers(state) > 0;
 	}
 
 	@NotNull
 	public static BlockState getSnowEquivalent(BlockState state) {
-		return Blocks.SNOW.defaultBlockState().setValue(BlockStateProperties.LAYERS, Math.max(1, getSnowLayers(state)));
+		return SnowEquivalents.BY_LAYERS[Math.min(MAX_LAYERS, Math.max(1, getSnowLayers(state)))];
 	}
 
 	@Nullable
@@ -131,4 +151,16 @@ public class SnowloggingUtils {
 		return false;
     }
 
+	/**
+	 * Loaded on first use rather than with {@link SnowloggingUtils}, which is already used while {@link Blocks} is being created.
+	 */
+	private static final class SnowEquivalents {
+		private static final BlockState[] BY_LAYERS = new BlockState[MAX_LAYERS + 1];
+
+		static {
+			for (int layers = 1; layers <= MAX_LAYERS; layers++) {
+				BY_LAYERS[layers] = Blocks.SNOW.defaultBlockState().setValue(BlockStateProperties.LAYERS, layers);
+			}
+		}
+	}
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl.ticker;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A short-lived effect ticked by {@link BlockTickerManager} without being an entity.
+ * <p>
+ * Block tickers aren't saved, and are dropped if their chunk stops ticking.
+ */
+public interface BlockTicker {
+
+	@NotNull
+	BlockPos pos();
+
+	/**
+	 * @return whether the ticker should keep ticking.
+	 */
+	boolean tick(@NotNull ServerLevel level);
+}
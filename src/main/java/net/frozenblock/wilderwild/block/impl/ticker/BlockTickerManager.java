@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl.ticker;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import net.frozenblock.wilderwild.registry.WWAttachmentTypes;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ticks the {@link FallingLeaf}s and {@link BlockTicker}s of a {@link ServerLevel}, which used to be spawned as entities.
+ * <p>
+ * Falling leaves are kept in a {@link WWAttachmentTypes#FALLING_LEAVES} attachment on their chunk, so they're saved and loaded along with it.
+ */
+public final class BlockTickerManager {
+	private static final Map<ServerLevel, BlockTickerManager> LEVEL_MANAGERS = new Reference2ObjectOpenHashMap<>();
+
+	private final ServerLevel level;
+	private final LongOpenHashSet chunksWithFallingLeaves = new LongOpenHashSet();
+	private final ObjectArrayList<BlockTicker> tickers = new ObjectArrayList<>();
+
+	private BlockTickerManager(@NotNull ServerLevel level) {
+		this.level = level;
+	}
+
+	@NotNull
+	public static BlockTickerManager get(@NotNull ServerLevel level) {
+		BlockTickerManager manager = LEVEL_MANAGERS.get(level);
+		if (manager == null) {
+			manager = new BlockTickerManager(level);
+			LEVEL_MANAGERS.put(level, manager);
+		}
+		return manager;
+	}
+
+	public static void tickLevel(@NotNull ServerLevel level) {
+		BlockTickerManager manager = LEVEL_MANAGERS.get(level);
+		if (manager != null) {
+			manager.tick();
+		}
+	}
+
+	public static void onChunkLoad(@NotNull ServerLevel level, @NotNull LevelChunk chunk) {
+		if (chunk.hasAttached(WWAttachmentTypes.FALLING_LEAVES)) {
+			get(level).chunksWithFallingLeaves.add(chunk.getPos().toLong());
+		}
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		LEVEL_MANAGERS.remove(level);
+	}
+
+	public static void clear() {
+		LEVEL_MANAGERS.clear();
+	}
+
+	public void addFallingLeaf(@NotNull BlockPos pos, @NotNull Block leafLitter) {
+		LevelChunk chunk = this.level.getChunkAt(pos);
+		List<FallingLeaf> fallingLeaves = chunk.getAttached(WWAttachmentTypes.FALLING_LEAVES);
+		if (fallingLeaves == null) {
+			fallingLeaves = new ArrayList<>();
+			chunk.setAttached(WWAttachmentTypes.FALLING_LEAVES, fallingLeaves);
+		}
+		fallingLeaves.add(FallingLeaf.create(pos, leafLitter));
+		chunk.setUnsaved(true);
+		this.chunksWithFallingLeaves.add(chunk.getPos().toLong());
+	}
+
+	public void addTicker(@NotNull BlockTicker ticker) {
+		this.tickers.add(ticker);
+	}
+
+	private void tick() {
+		this.tickFallingLeaves();
+		this.tickTickers();
+	}
+
+	private void tickFallingLeaves() {
+		if (this.chunksWithFallingLeaves.isEmpty()) return;
+		LongIterator iterator = this.chunksWithFallingLeaves.iterator();
+		while (iterator.hasNext()) {
+			long chunkPos = iterator.nextLong();
+			LevelChunk chunk = this.level.getChunkSource().getChunkNow(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos));
+			if (chunk == null) {
+				iterator.remove();
+				continue;
+			}
+			if (!this.level.shouldTickBlocksAt(chunkPos)) continue;
+
+			List<FallingLeaf> fallingLeaves = chunk.getAttached(WWAttachmentTypes.FALLING_LEAVES);
+			if (fallingLeaves != null) {
+				int previousSize = fallingLeaves.size();
+				fallingLeaves.removeIf(fallingLeaf -> !fallingLeaf.tick(this.level, chunk));
+				if (fallingLeaves.size() != previousSize) {
+					chunk.setUnsaved(true);
+				}
+				if (!fallingLeaves.isEmpty()) continue;
+				chunk.removeAttached(WWAttachmentTypes.FALLING_LEAVES);
+			}
+			iterator.remove();
+		}
+	}
+
+	private void tickTickers() {
+		for (int i = 0; i < this.tickers.size();) {
+			BlockTicker ticker = this.tickers.get(i);
+			if (this.level.shouldTickBlocksAt(ticker.pos()) && ticker.tick(this.level)) {
+				i++;
+			} else {
+				this.tickers.remove(i);
+			}
+		}
+	}
+}
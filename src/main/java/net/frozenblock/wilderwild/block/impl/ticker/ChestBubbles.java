@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl.ticker;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.ChestBlock;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.ChestType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Releases bubbles from a waterlogged chest for a few ticks after it's opened.
+ */
+public final class ChestBubbles implements BlockTicker {
+	private static final int DURATION = 5;
+	private final BlockPos pos;
+	private int ticks;
+
+	public ChestBubbles(@NotNull BlockPos pos) {
+		this.pos = pos;
+	}
+
+	@Override
+	@NotNull
+	public BlockPos pos() {
+		return this.pos;
+	}
+
+	@Override
+	public boolean tick(@NotNull ServerLevel level) {
+		if (++this.ticks > DURATION) return false;
+		BlockState state = level.getBlockState(this.pos);
+		if (level.getBlockEntity(this.pos) instanceof ChestBlockEntity && state.getBlock() instanceof ChestBlock) {
+			if (state.hasProperty(BlockStateProperties.WATERLOGGED) && state.getValue(BlockStateProperties.WATERLOGGED)) {
+				double additionalX = 0.5D;
+				double additionalZ = 0.5D;
+				if (state.hasProperty(BlockStateProperties.CHEST_TYPE) && state.getValue(BlockStateProperties.CHEST_TYPE) != ChestType.SINGLE) {
+					Direction direction = ChestBlock.getConnectedDirection(state);
+					additionalX += (double) direction.getStepX() * 0.125;
+					additionalZ += (double) direction.getStepZ() * 0.125;
+				}
+				level.sendParticles(
+					ParticleTypes.BUBBLE,
+					this.pos.getX() + additionalX,
+					this.pos.getY() + 0.625D,
+					this.pos.getZ() + additionalZ,
+					level.random.nextInt(4, 10),
+					0.21875D,
+					0D,
+					0.21875D,
+					0.2D
+				);
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl.ticker;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import net.frozenblock.wilderwild.block.LeafLitterBlock;
+import net.frozenblock.wilderwild.block.impl.FallingLeafUtil;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.particles.BlockParticleOption;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A cluster of leaves falling straight down a block column, which becomes leaf litter where it lands.
+ * <p>
+ * Rather than raycasting every tick, the column below is scanned once for the first collider or fluid,
+ * and the leaves fall freely until they reach it. The blocks passed through each tick are checked in case something was placed in the way,
+ * and the landing block is checked again on arrival in case it changed.
+ */
+public final class FallingLeaf {
+	public static final Codec<FallingLeaf> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+		Codec.INT.fieldOf("x").forGetter(fallingLeaf -> fallingLeaf.x),
+		Codec.INT.fieldOf("z").forGetter(fallingLeaf -> fallingLeaf.z),
+		Codec.DOUBLE.fieldOf("y").forGetter(fallingLeaf -> fallingLeaf.y),
+		Codec.DOUBLE.fieldOf("velocity").forGetter(fallingLeaf -> fallingLeaf.yd),
+		BuiltInRegistries.BLOCK.byNameCodec().fieldOf("leaf_litter").forGetter(fallingLeaf -> fallingLeaf.leafLitter)
+	).apply(instance, FallingLeaf::new));
+	public static final Codec<List<FallingLeaf>> LIST_CODEC = CODEC.listOf().xmap(ArrayList::new, Function.identity());
+	private static final int SCAN_DEPTH = 32;
+	private static final int NO_LANDING = Integer.MIN_VALUE;
+	private static final double EPSILON = 1.0E-5D;
+
+	private final int x;
+	private final int z;
+	private double y;
+	private double yd;
+	private final Block leafLitter;
+	private boolean hasVisibleLeaves;
+	private double landingY = Double.NaN;
+	private int landingBlockY = NO_LANDING;
+
+	private FallingLeaf(int x, int z, double y, double yd, Block leafLitter) {
+		this.x = x;
+		this.z = z;
+		this.y = y;
+		this.yd = yd;
+		this.leafLitter = leafLitter;
+	}
+
+	@NotNull
+	public static FallingLeaf create(@NotNull BlockPos pos, @NotNull Block leafLitter) {
+		FallingLeaf fallingLeaf = new FallingLeaf(pos.getX(), pos.getZ(), pos.getY(), -0.05D, leafLitter);
+		fallingLeaf.hasVisibleLeaves = true;
+		return fallingLeaf;
+	}
+
+	public int x() {
+		return this.x;
+	}
+
+	public int z() {
+		return this.z;
+	}
+
+	/**
+	 * @return whether the leaves are still falling.
+	 */
+	public boolean tick(@NotNull ServerLevel level, @NotNull LevelChunk chunk) {
+		if (this.y <= level.getMinBuildHeight()) return false;
+		if (!this.hasVisibleLeaves) {
+			this.hasVisibleLeaves = true;
+			if (this.leafLitter instanceof LeafLitterBlock litterBlock) {
+				BlockPos pos = BlockPos.containing(this.x, this.y, this.z);
+				FallingLeafUtil.getFallingLeafData(litterBlock.getLeavesBlock())
+					.ifPresent(fallingLeafData -> FallingLeafUtil.sendLeafClusterParticle(level, pos, fallingLeafData));
+			}
+		}
+
+		this.yd -= 0.04D;
+		double nextY = this.y + this.yd;
+		BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+		if (Double.isNaN(this.landingY)) {
+			this.findLanding(level, chunk, this.y, mutableBlockPos);
+		} else {
+			this.checkFallPath(level, chunk, nextY, mutableBlockPos);
+		}
+		while (nextY <= this.landingY) {
+			if (this.landingBlockY == NO_LANDING) {
+				if (this.landingY <= level.getMinBuildHeight()) return false;
+				this.findLanding(level, chunk, this.landingY, mutableBlockPos);
+			} else if (getSurface(level, chunk, mutableBlockPos.set(this.x, this.landingBlockY, this.z)) == this.landingY) {
+				this.land(level, mutableBlockPos.move(Direction.UP).immutable());
+				return false;
+			} else {
+				this.findLanding(level, chunk, this.y, mutableBlockPos);
+			}
+		}
+		this.y = nextY;
+		return true;
+	}
+
+	private void land(@NotNull ServerLevel level, @NotNull BlockPos placePos) {
+		BlockState stateToReplace = level.getBlockState(placePos);
+		if (FallingLeafUtil.isSafePosToPlaceLitter(level, placePos, stateToReplace, this.leafLitter)) {
+			BlockState litterState = this.leafLitter.defaultBlockState();
+			level.setBlockAndUpdate(placePos, litterState);
+			level.sendParticles(
+				new BlockParticleOption(ParticleTypes.BLOCK, litterState),
+				placePos.getX() + 0.5D,
+				placePos.getY() + 0.1D,
+				placePos.getZ() + 0.5D,
+				level.random.nextInt(8, 18),
+				0.3D, 0D, 0.3D,
+				0.05D
+			);
+		}
+	}
+
+	/**
+	 * Finds the first surface below the given height, scanning at most {@link #SCAN_DEPTH} blocks.
+	 * <p>
+	 * If none is found, {@link #landingY} is set to the bottom of the scanned range, to continue scanning from once the leaves get there.
+	 */
+	private void findLanding(@NotNull ServerLevel level, @NotNull LevelChunk chunk, double fromY, @NotNull BlockPos.MutableBlockPos mutableBlockPos) {
+		int startY = Mth.floor(fromY - EPSILON);
+		int endY = Math.max(level.getMinBuildHeight(), startY - SCAN_DEPTH);
+		for (int blockY = startY; blockY >= endY; blockY--) {
+			double surface = getSurface(level, chunk, mutableBlockPos.set(this.x, blockY, this.z));
+			if (surface <= fromY + EPSILON) {
+				this.landingY = surface;
+				this.landingBlockY = blockY;
+				return;
+			}
+		}
+		this.landingY = endY;
+		this.landingBlockY = NO_LANDING;
+	}
+
+	/**
+	 * Checks the blocks above the landing that the leaves fall through this tick, moving the landing up to the first surface found.
+	 */
+	private void checkFallPath(@NotNull ServerLevel level, @NotNull LevelChunk chunk, double nextY, @NotNull BlockPos.MutableBlockPos mutableBlockPos) {
+		int startY = Mth.floor(this.y - EPSILON);
+		int lowestY = this.landingBlockY == NO_LANDING ? Mth.floor(this.landingY) : this.landingBlockY + 1;
+		int endY = Math.max(lowestY, Mth.floor(nextY));
+		for (int blockY = startY; blockY >= endY; blockY--) {
+			double surface = getSurface(level, chunk, mutableBlockPos.set(this.x, blockY, this.z));
+			if (surface <= this.y + EPSILON) {
+				this.landingY = surface;
+				this.landingBlockY = blockY;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return the height of the top of the block's collision shape or fluid, or {@link Double#NaN} if it has neither.
+	 */
+	private static double getSurface(@NotNull ServerLevel level, @NotNull LevelChunk chunk, @NotNull BlockPos pos) {
+		BlockState state = chunk.getBlockState(pos);
+		double surface = Double.NaN;
+		FluidState fluidState = state.getFluidState();
+		if (!fluidState.isEmpty()) {
+			surface = pos.getY() + fluidState.getHeight(level, pos);
+		}
+		VoxelShape shape = state.getCollisionShape(level, pos);
+		if (!shape.isEmpty()) {
+			double shapeSurface = pos.getY() + shape.max(Direction.Axis.Y);
+			surface = Double.isNaN(surface) ? shapeSurface : Math.max(surface, shapeSurface);
+		}
+		return surface;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.client.debug;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.debug.DebugRenderer;
+import net.minecraft.util.FastColor;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
+
+@Environment(EnvType.CLIENT)
+public final class WindFieldDebugRenderer implements DebugRenderer.SimpleDebugRenderer {
+	private static final int TEXT_COLOR = FastColor.ARGB32.color(255, 150, 220, 255);
+	private static final float TEXT_SCALE = 0.01F;
+	private final Minecraft minecraft;
+
+	public WindFieldDebugRenderer(Minecraft client) {
+		this.minecraft = client;
+	}
+
+	@Override
+	public void render(PoseStack matrices, @NotNull MultiBufferSource vertexConsumers, double cameraX, double cameraY, double cameraZ) {
+		Camera camera = this.minecraft.gameRenderer.getMainCamera();
+		Vector3f look = camera.getLookVector();
+		Vector3f up = camera.getUpVector();
+		double x = cameraX + look.x() * 2D;
+		double y = cameraY + look.y() * 2D;
+		double z = cameraZ + look.z() * 2D;
+
+		String[] lines = new String[]{
+			WWAmbienceAndMiscConfig.CACHED_WIND_FIELD ? "Wind Field Cache" : "Wind Field Cache (disabled)",
+			String.format("Hit rate: %.1f%%", WindFieldCache.getHitRate() * 100D),
+			"Samples per tick: " + WindFieldCache.getSamples(),
+			"Lookups per tick: " + WindFieldCache.getLookups(),
+			"Outside of grid: " + WindFieldCache.getMisses(),
+			"Grids: " + WindFieldCache.getGridCount()
+		};
+		for (int i = 0; i < lines.length; i++) {
+			double lineOffset = 0.5D - i * 0.12D;
+			DebugRenderer.renderFloatingText(
+				matrices,
+				vertexConsumers,
+				lines[i],
+				x + up.x() * lineOffset,
+				y + up.y() * lineOffset,
+				z + up.z() * lineOffset,
+				TEXT_COLOR,
+				TEXT_SCALE
+			);
+		}
+	}
+}
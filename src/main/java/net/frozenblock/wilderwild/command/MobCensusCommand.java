@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import net.frozenblock.wilderwild.entity.impl.MobCensus;
+import net.frozenblock.wilderwild.entity.variant.JellyfishVariant;
+import net.frozenblock.wilderwild.registry.WWEntityTypes;
+import net.minecraft.commands.CommandBuildContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.ResourceArgument;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+
+public final class MobCensusCommand {
+	public static void register(@NotNull CommandDispatcher<CommandSourceStack> dispatcher, @NotNull CommandBuildContext buildContext) {
+		dispatcher.register(Commands.literal("mobcensus")
+			.requires(source -> source.hasPermission(2))
+			.executes(context -> getInfo(context.getSource()))
+			.then(Commands.argument("entity", ResourceArgument.resource(buildContext, Registries.ENTITY_TYPE))
+				.executes(context -> getCount(context.getSource(), ResourceArgument.getEntityType(context, "entity").value()))
+			)
+		);
+	}
+
+	private static int getInfo(@NotNull CommandSourceStack source) {
+		MobCensus census = MobCensus.get(source.getLevel());
+		int crabs = census.getCount(WWEntityTypes.CRAB);
+		int jellyfish = census.getCount(WWEntityTypes.JELLYFISH);
+		source.sendSuccess(
+			() -> Component.translatable(
+				"commands.mobcensus.info",
+				source.getLevel().dimension().location().toString(),
+				crabs,
+				jellyfish,
+				census.getJellyfishCount(false),
+				census.getJellyfishCount(true)
+			),
+			false
+		);
+		for (Object2IntMap.Entry<JellyfishVariant> entry : census.getJellyfishByVariant().object2IntEntrySet()) {
+			String variant = entry.getKey().key().toString();
+			int count = entry.getIntValue();
+			source.sendSuccess(() -> Component.translatable("commands.mobcensus.jellyfish_variant", variant, count), false);
+		}
+		return crabs + jellyfish;
+	}
+
+	private static int getCount(@NotNull CommandSourceStack source, @NotNull EntityType<?> type) {
+		int count = MobCensus.get(source.getLevel()).getCount(type);
+		source.sendSuccess(() -> Component.translatable("commands.mobcensus.type", type.getDescription(), count), false);
+		return count;
+	}
+}
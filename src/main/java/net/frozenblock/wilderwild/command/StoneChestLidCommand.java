@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.frozenblock.wilderwild.block.entity.StoneChestBlockEntity;
+import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+public final class StoneChestLidCommand {
+	public static void register(@NotNull CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher.register(Commands.literal("stonechestlid")
+			.requires(source -> source.hasPermission(2))
+			.executes(context -> getInfo(context.getSource()))
+			.then(Commands.literal("reset")
+				.executes(context -> reset(context.getSource()))
+			)
+			.then(Commands.argument("position", BlockPosArgument.blockPos())
+				.executes(context -> getChestInfo(context.getSource(), BlockPosArgument.getLoadedBlockPos(context, "position")))
+			)
+		);
+	}
+
+	private static int getInfo(@NotNull CommandSourceStack source) {
+		long keyframes = WWStoneChestLidPacket.getKeyframeCount();
+		long packets = WWStoneChestLidPacket.getPacketCount();
+		long bytes = WWStoneChestLidPacket.getByteCount();
+		source.sendSuccess(() -> Component.translatable("commands.stonechestlid.info", keyframes, packets, bytes), false);
+		return (int) Math.min(Integer.MAX_VALUE, packets);
+	}
+
+	private static int getChestInfo(@NotNull CommandSourceStack source, BlockPos pos) {
+		if (source.getLevel().getBlockEntity(pos) instanceof StoneChestBlockEntity stoneChest) {
+			source.sendSuccess(
+				() -> Component.translatable(
+					"commands.stonechestlid.chest",
+					pos.getX(), pos.getY(), pos.getZ(),
+					stoneChest.getOpenProgress(1F),
+					stoneChest.isSleeping()
+				),
+				false
+			);
+			return 1;
+		}
+		source.sendFailure(Component.translatable("commands.stonechestlid.failure", pos.getX(), pos.getY(), pos.getZ()));
+		return 0;
+	}
+
+	private static int reset(@NotNull CommandSourceStack source) {
+		WWStoneChestLidPacket.resetCounters();
+		source.sendSuccess(() -> Component.translatable("commands.stonechestlid.reset"), true);
+		return 1;
+	}
+}
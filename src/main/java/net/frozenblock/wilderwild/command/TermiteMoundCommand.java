@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.frozenblock.wilderwild.block.entity.TermiteMoundBlockEntity;
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.NotNull;
+
+public final class TermiteMoundCommand {
+	public static void register(@NotNull CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher.register(Commands.literal("termitemound")
+			.requires(source -> source.hasPermission(2))
+			.then(Commands.argument("position", BlockPosArgument.blockPos())
+				.executes(context -> getInfo(context.getSource(), BlockPosArgument.getLoadedBlockPos(context, "position")))
+			)
+		);
+	}
+
+	private static int getInfo(@NotNull CommandSourceStack source, BlockPos pos) {
+		if (source.getLevel().getBlockEntity(pos) instanceof TermiteMoundBlockEntity termiteMoundBlockEntity) {
+			TermiteManager termiteManager = termiteMoundBlockEntity.termiteManager;
+			source.sendSuccess(
+				() -> Component.translatable(
+					"commands.termitemound.info",
+					pos.getX(), pos.getY(), pos.getZ(),
+					termiteManager.termites().size(),
+					termiteMoundBlockEntity.isSleeping(),
+					termiteMoundBlockEntity.getSkippedTicks(),
+					termiteManager.effectCount,
+					termiteManager.effectPacketCount,
+					termiteManager.effectByteCount
+				),
+				false
+			);
+			return 1;
+		}
+		source.sendFailure(Component.translatable("commands.termitemound.failure", pos.getX(), pos.getY(), pos.getZ()));
+		return 0;
+	}
+}
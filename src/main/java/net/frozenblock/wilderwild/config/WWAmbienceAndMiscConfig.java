@@ -56,6 +56,7 @@ public final class WWAmbienceAndMiscConfig {
 				WIND_DISTURBANCE_PARTICLE_FREQUENCY = config.wind.windDisturbanceParticleFrequency;
 				WIND_DISTURBANCE_PARTICLE_SPAWN_ATTEMPTS = config.wind.windDisturbanceParticleSpawnAttempts;
 				PARTICLE_WIND_MOVEMENT = config.wind.particleWindMovement;
+				CACHED_WIND_FIELD = config.wind.cachedWindField;
 				FIREWORK_WIND_MOVEMENT = config.wind.fireworkWindMovement;
 
 				Client.OAK_LEAF_FREQUENCY = config.leafParticles.oakFrequency / 100D;
@@ -100,6 +101,7 @@ public final class WWAmbienceAndMiscConfig {
 	public static volatile int WIND_DISTURBANCE_PARTICLE_FREQUENCY = 90;
 	public static volatile int WIND_DISTURBANCE_PARTICLE_SPAWN_ATTEMPTS = 100;
 	public static volatile int PARTICLE_WIND_MOVEMENT = 100;
+	public static volatile boolean CACHED_WIND_FIELD = true;
 	public static volatile int FIREWORK_WIND_MOVEMENT = 100;
 
 	public static class Client {
@@ -241,6 +243,9 @@ public final class WWAmbienceAndMiscConfig {
 		@EntrySyncData(value = "particleWindMovement", behavior = SyncBehavior.UNSYNCABLE)
 		public int particleWindMovement = 100;
 
+		@EntrySyncData(value = "cachedWindField", behavior = SyncBehavior.UNSYNCABLE)
+		public boolean cachedWindField = true;
+
 		@EntrySyncData("fireworkWindMovement")
 		public int fireworkWindMovement = 100;
 	}
@@ -30,6 +30,7 @@ import net.frozenblock.lib.config.api.sync.SyncBehavior;
 import net.frozenblock.lib.config.api.sync.annotation.EntrySyncData;
 import static net.frozenblock.wilderwild.WWConstants.MOD_ID;
 import net.frozenblock.wilderwild.WWPreLoadConstants;
+import net.frozenblock.wilderwild.block.impl.SnowloggingUtils;
 
 public final class WWBlockConfig {
 
@@ -54,6 +55,7 @@ public final class WWBlockConfig {
 				MESOGLEA_BUBBLE_COLUMNS = config.mesoglea.mesogleaBubbleColumns;
 				FIRE_MAGMA_PARTICLES = config.fire.extraMagmaParticles;
 				SNOWLOGGING = config.snowlogging.snowlogging && !FabricLoader.getInstance().isModLoaded("antique-atlas");
+				SnowloggingUtils.setEnabled(SNOWLOGGING);
 				SNOWLOG_WALLS = SNOWLOGGING && config.snowlogging.snowlogWalls;
 				NATURAL_SNOWLOGGING = SNOWLOGGING && config.snowlogging.naturalSnowlogging;
 				if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
@@ -111,6 +111,12 @@ public final class WWAmbienceAndMiscConfigGui {
 			.setTooltip(tooltip("particle_wind_movement"))
 			.build();
 
+		var cachedWindField = entryBuilder.startBooleanToggle(text("cached_wind_field"), wind.cachedWindField)
+			.setDefaultValue(defaultConfig.wind.cachedWindField)
+			.setSaveConsumer(newValue -> wind.cachedWindField = newValue)
+			.setTooltip(tooltip("cached_wind_field"))
+			.build();
+
 		var fireworkWindMovement = FrozenClothConfig.syncedEntry(
 			entryBuilder.startIntSlider(text("firework_wind_movement"), modifiedWind.fireworkWindMovement, 0, 500)
 				.setDefaultValue(defaultConfig.wind.fireworkWindMovement)
@@ -128,7 +134,7 @@ public final class WWAmbienceAndMiscConfigGui {
 			cloudMovement,
 			windParticles, windParticleFrequency, windParticleSpawnAttempts,
 			windDisturbanceParticles, windDisturbanceParticleFrequency, windDisturbanceParticleSpawnAttempts,
-			particleWindMovement, fireworkWindMovement
+			particleWindMovement, cachedWindField, fireworkWindMovement
 		);
 
 		var oakLeafParticles = entryBuilder.startIntSlider(text("oak_leaf_particles"), leafParticles.oakFrequency, 0, 500)
@@ -33,6 +33,11 @@ import net.minecraft.world.level.block.state.properties.ChestType;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * No longer spawned, replaced by {@link net.frozenblock.wilderwild.block.impl.ticker.ChestBubbles}.
+ * <p>
+ * Still registered so that those saved in older worlds load and finish ticking.
+ */
 public class ChestBubbleTicker extends SilentTicker {
 
 	public ChestBubbleTicker(@NotNull EntityType<?> entityType, @NotNull Level level) {
@@ -19,23 +19,21 @@
 package net.frozenblock.wilderwild.entity;
 
 import com.mojang.serialization.Dynamic;
-import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import net.frozenblock.lib.block.api.shape.FrozenShapes;
-import net.frozenblock.lib.entity.api.EntityUtils;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.ai.crab.CrabAi;
 import net.frozenblock.wilderwild.entity.ai.crab.CrabJumpControl;
 import net.frozenblock.wilderwild.entity.ai.crab.CrabMoveControl;
 import net.frozenblock.wilderwild.entity.ai.crab.CrabNavigation;
+import net.frozenblock.wilderwild.entity.impl.MobCensus;
+import net.frozenblock.wilderwild.registry.WWEntityDataSerializers;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
 import net.frozenblock.wilderwild.registry.WWItems;
 import net.frozenblock.wilderwild.registry.WWMemoryModuleTypes;
@@ -104,6 +102,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.gameevent.DynamicGameEventListener;
 import net.minecraft.world.level.gameevent.EntityPositionSource;
 import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.gameevent.GameEventListener;
 import net.minecraft.world.level.gameevent.PositionSource;
 import net.minecraft.world.level.gameevent.vibrations.VibrationSystem;
 import net.minecraft.world.level.pathfinder.PathType;
@@ -133,18 +132,17 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	private static final double LATCH_TO_WALL_FORCE = 0.0195D;
 	public static final int SPAWN_CHANCE = 30;
 	public static final int SPAWN_CHANCE_COMMON = 90;
-	private static final Map<ServerLevelAccessor, Integer> CRABS_PER_LEVEL = new Object2IntOpenHashMap<>();
-	private static final EntityDataAccessor<String> MOVE_STATE = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.STRING);
+	private static final EntityDataAccessor<MoveState> MOVE_STATE = SynchedEntityData.defineId(Crab.class, WWEntityDataSerializers.CRAB_MOVE_STATE);
 	private static final EntityDataAccessor<Float> TARGET_CLIMBING_ANIM_X = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Float> TARGET_CLIMBING_ANIM_Y = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.FLOAT);
-	private static final EntityDataAccessor<String> CLIMBING_FACE = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.STRING);
+	private static final EntityDataAccessor<ClimbingFace> CLIMBING_FACE = SynchedEntityData.defineId(Crab.class, WWEntityDataSerializers.CRAB_CLIMBING_FACE);
 	private static final EntityDataAccessor<Float> TARGET_CLIMBING_ANIM_AMOUNT = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Integer> DIGGING_TICKS = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.INT);
 	private static final EntityDataAccessor<Boolean> FROM_BUCKET = SynchedEntityData.defineId(Crab.class, EntityDataSerializers.BOOLEAN);
 	public final AnimationState diggingAnimationState = new AnimationState();
 	public final AnimationState emergingAnimationState = new AnimationState();
 	public final AnimationState hidingAnimationState = new AnimationState();
-	private final DynamicGameEventListener<VibrationSystem.Listener> dynamicGameEventListener;
+	private final DynamicGameEventListener<Crab.VibrationListener> dynamicGameEventListener;
 	private final VibrationSystem.User vibrationUser;
 	public Vec3 prevMovement;
 	public boolean cancelMovementToDescend;
@@ -161,7 +159,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 		super(entityType, level);
 		this.vibrationUser = new Crab.VibrationUser();
 		this.vibrationData = new VibrationSystem.Data();
-		this.dynamicGameEventListener = new DynamicGameEventListener<>(new VibrationSystem.Listener(this));
+		this.dynamicGameEventListener = new DynamicGameEventListener<>(new Crab.VibrationListener());
 		this.jumpControl = new CrabJumpControl(this);
 		this.prevMovement = Vec3.ZERO;
 		this.setPathfindingMalus(PathType.LAVA, -1F);
@@ -184,10 +182,6 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 			.add(Attributes.FOLLOW_RANGE, MAX_TARGET_DISTANCE);
 	}
 
-	public static void clearLevelToCrabCount() {
-		CRABS_PER_LEVEL.clear();
-	}
-
 	public static boolean checkCrabSpawnRules(@NotNull EntityType<Crab> type, @NotNull ServerLevelAccessor level, @NotNull MobSpawnType spawnType, @NotNull BlockPos pos, @NotNull RandomSource random) {
 		if (MobSpawnType.isSpawner(spawnType)) return true;
 		if (!WWEntityConfig.get().crab.spawnCrabs) return false;
@@ -204,18 +198,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	}
 
 	public static int getCrabsPerLevel(@NotNull ServerLevel level) {
-		AtomicInteger count = new AtomicInteger();
-		if (!CRABS_PER_LEVEL.containsKey(level)) {
-			EntityUtils.getEntitiesPerLevel(level).forEach(entity -> {
-				if (entity instanceof Crab) {
-					count.addAndGet(1);
-				}
-			});
-			CRABS_PER_LEVEL.put(level, count.get());
-		} else {
-			count.set(CRABS_PER_LEVEL.get(level));
-		}
-		return count.get();
+		return MobCensus.get(level).getCount(WWEntityTypes.CRAB);
 	}
 
 	private static float getAngleFromVec3(@NotNull Vec3 vec3) {
@@ -297,13 +280,13 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	@Override
 	protected void defineSynchedData(SynchedEntityData.Builder builder) {
 		super.defineSynchedData(builder);
-		builder.define(MOVE_STATE, MoveState.WALKING.name());
+		builder.define(MOVE_STATE, MoveState.WALKING);
 		builder.define(TARGET_CLIMBING_ANIM_X, 0F);
 		builder.define(TARGET_CLIMBING_ANIM_Y, 0F);
 		builder.define(TARGET_CLIMBING_ANIM_AMOUNT, 0F);
 		builder.define(DIGGING_TICKS, 0);
 		builder.define(FROM_BUCKET, false);
-		builder.define(CLIMBING_FACE, ClimbingFace.NORTH.name());
+		builder.define(CLIMBING_FACE, ClimbingFace.NORTH);
 	}
 
 	@Override
@@ -324,7 +307,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	@Override
 	public void tick() {
 		boolean isClient = this.level().isClientSide;
-		if (this.level() instanceof ServerLevel serverLevel) {
+		if (this.level() instanceof ServerLevel serverLevel && this.needsVibrationTicking()) {
 			VibrationSystem.Ticker.tick(serverLevel, this.vibrationData, this.vibrationUser);
 		}
 		super.tick();
@@ -554,6 +537,14 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 		return this.hasPose(Pose.DIGGING) && this.getDiggingTicks() > DIG_LENGTH_IN_TICKS;
 	}
 
+	/**
+	 * Crabs only accept vibrations while hiding underground, so the vibration system only needs ticking while digging, emerging,
+	 * or delivering a vibration it already accepted.
+	 */
+	private boolean needsVibrationTicking() {
+		return this.isDiggingOrEmerging() || this.vibrationData.getCurrentVibration() != null;
+	}
+
 	@Contract("null->false")
 	public boolean canTargetEntity(@Nullable Entity entity) {
 		return entity instanceof LivingEntity livingEntity
@@ -641,7 +632,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	}
 
 	public MoveState moveState() {
-		return MoveState.valueOf(this.entityData.get(MOVE_STATE));
+		return this.entityData.get(MOVE_STATE);
 	}
 
 	public boolean isCrabClimbing() {
@@ -653,21 +644,21 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	}
 
 	public void setMoveState(@NotNull MoveState state) {
-		this.entityData.set(MOVE_STATE, state.name());
+		this.entityData.set(MOVE_STATE, state);
 	}
 
 	public ClimbingFace getClimbingFace() {
-		return ClimbingFace.valueOf(this.entityData.get(CLIMBING_FACE));
+		return this.entityData.get(CLIMBING_FACE);
 	}
 
 	public void setClimbingFace(@NotNull Direction direction) {
 		this.entityData.set(
 			CLIMBING_FACE,
 			switch (direction) {
-				case EAST -> ClimbingFace.EAST.name();
-				case WEST -> ClimbingFace.WEST.name();
-				case SOUTH -> ClimbingFace.SOUTH.name();
-				default -> ClimbingFace.NORTH.name();
+				case EAST -> ClimbingFace.EAST;
+				case WEST -> ClimbingFace.WEST;
+				case SOUTH -> ClimbingFace.SOUTH;
+				default -> ClimbingFace.NORTH;
 			}
 		);
 	}
@@ -914,6 +905,39 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 		}
 	}
 
+	/**
+	 * Ignores game events while the Crab isn't hiding underground, before the vibration system reads its position or tags.
+	 */
+	public class VibrationListener implements GameEventListener {
+		private final VibrationSystem.Listener listener;
+
+		private VibrationListener() {
+			this.listener = new VibrationSystem.Listener(Crab.this);
+		}
+
+		@Override
+		@NotNull
+		public PositionSource getListenerSource() {
+			return this.listener.getListenerSource();
+		}
+
+		@Override
+		public int getListenerRadius() {
+			return this.listener.getListenerRadius();
+		}
+
+		@Override
+		public boolean handleGameEvent(@NotNull ServerLevel level, @NotNull Holder<GameEvent> gameEvent, GameEvent.@NotNull Context context, @NotNull Vec3 pos) {
+			return Crab.this.isHidingUnderground() && this.listener.handleGameEvent(level, gameEvent, context, pos);
+		}
+
+		@Override
+		@NotNull
+		public DeliveryMode getDeliveryMode() {
+			return this.listener.getDeliveryMode();
+		}
+	}
+
 	public class VibrationUser implements VibrationSystem.User {
 		private static final int GAME_EVENT_LISTENER_RANGE = 8;
 		private final PositionSource positionSource;
@@ -41,6 +41,11 @@ import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * No longer spawned, replaced by {@link net.frozenblock.wilderwild.block.impl.ticker.FallingLeaf}.
+ * <p>
+ * Still registered so that those saved in older worlds load and finish ticking.
+ */
 public class FallingLeafTicker extends SilentTicker {
 	private boolean hasVisibleLeaves = false;
 	private double yd = -0.05D;
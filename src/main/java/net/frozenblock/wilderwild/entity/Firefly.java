@@ -25,21 +25,23 @@ import java.util.Objects;
 import java.util.Optional;
 import net.frozenblock.lib.math.api.AdvancedMath;
 import net.frozenblock.lib.sound.api.FrozenSoundPackets;
-import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.ai.firefly.FireflyAi;
 import net.frozenblock.wilderwild.entity.variant.FireflyColor;
 import net.frozenblock.wilderwild.mod_compat.FrozenLibIntegration;
 import net.frozenblock.wilderwild.registry.WWCriteria;
+import net.frozenblock.wilderwild.registry.WWEntityDataSerializers;
 import net.frozenblock.wilderwild.registry.WWItems;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
 import net.frozenblock.wilderwild.tag.WWBiomeTags;
+import net.frozenblock.wilderwild.wind.SectionWindCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.game.DebugPackets;
 import net.minecraft.network.syncher.EntityDataAccessor;
 import net.minecraft.network.syncher.EntityDataSerializers;
@@ -93,6 +95,10 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	public static final int FLICKERS_CHANCE = 4;
 	public static final int RANDOM_FLICKER_AGE_MAX = 19;
 	public static final int SPAWN_CHANCE = 75;
+	/**
+	 * How often a Firefly checks that its home is still valid, staggered across Fireflies by their id.
+	 */
+	private static final int HOME_CHECK_INTERVAL = 200;
 	protected static final List<SensorType<? extends Sensor<? super Firefly>>> SENSORS = List.of(SensorType.NEAREST_LIVING_ENTITIES);
 	protected static final List<MemoryModuleType<?>> MEMORY_MODULES = List.of(MemoryModuleType.PATH, MemoryModuleType.NEAREST_VISIBLE_LIVING_ENTITIES, MemoryModuleType.WALK_TARGET, MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE, MemoryModuleType.LOOK_TARGET, MemoryModuleType.HOME);
 	private static final EntityDataAccessor<Boolean> FROM_BOTTLE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.BOOLEAN);
@@ -100,12 +106,12 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	private static final EntityDataAccessor<Integer> AGE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.INT);
 	private static final EntityDataAccessor<Float> ANIM_SCALE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Float> PREV_ANIM_SCALE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.FLOAT);
-	private static final EntityDataAccessor<String> COLOR = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.STRING);
+	private static final EntityDataAccessor<FireflyColor> COLOR = SynchedEntityData.defineId(Firefly.class, WWEntityDataSerializers.FIREFLY_COLOR);
+	private static final EntityDataAccessor<Boolean> NECTAR = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.BOOLEAN);
 
 	public boolean natural;
 	public boolean hasHome;
 	public boolean despawning;
-	public int homeCheckCooldown;
 	public boolean wasNamedNectar;
 	public boolean shouldCheckSpawn = true;
 
@@ -186,7 +192,8 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		builder.define(AGE, 0);
 		builder.define(ANIM_SCALE, 1.5F);
 		builder.define(PREV_ANIM_SCALE, 1.5F);
-		builder.define(COLOR, FireflyColor.ON.key().toString());
+		builder.define(COLOR, FireflyColor.ON);
+		builder.define(NECTAR, false);
 	}
 
 	@Override
@@ -260,6 +267,23 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		this.entityData.set(FROM_BOTTLE, value);
 	}
 
+	/**
+	 * @return whether the Firefly is named "Nectar", updated whenever its custom name changes.
+	 */
+	public boolean isNectar() {
+		return this.entityData.get(NECTAR);
+	}
+
+	@Override
+	public void setCustomName(@Nullable Component name) {
+		super.setCustomName(name);
+		this.entityData.set(NECTAR, name != null && isNectarName(name.getString()));
+	}
+
+	public static boolean isNectarName(@NotNull String name) {
+		return name.toLowerCase().contains("nectar");
+	}
+
 	public boolean flickers() {
 		return this.entityData.get(FLICKERS);
 	}
@@ -293,11 +317,11 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	}
 
 	public FireflyColor getColor() {
-		return WilderWildRegistries.FIREFLY_COLOR.getOptional(ResourceLocation.parse(this.entityData.get(COLOR))).orElse(FireflyColor.ON);
+		return this.entityData.get(COLOR);
 	}
 
 	public void setColor(@NotNull FireflyColor color) {
-		this.entityData.set(COLOR, color.key().toString());
+		this.entityData.set(COLOR, color);
 	}
 
 	@Override
@@ -398,7 +422,7 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 			this.shouldCheckSpawn = false;
 		}
 
-		boolean nectar = this.hasCustomName() && Objects.requireNonNull(this.getCustomName()).getString().toLowerCase().contains("nectar");
+		boolean nectar = this.isNectar();
 		if (this.level() instanceof ServerLevel server) {
 			if (nectar != wasNamedNectar) {
 				if (nectar) {
@@ -424,16 +448,11 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		}
 		this.setFlickerAge(this.getFlickerAge() + 1);
 
-		if (this.hasHome) {
-			if (this.homeCheckCooldown > 0) {
-				--this.homeCheckCooldown;
-			} else {
-				this.homeCheckCooldown = 200;
-				BlockPos home = FireflyAi.getHome(this);
-				if (home != null && FireflyAi.isInHomeDimension(this)) {
-					if (!isValidHomePos(this.level(), home)) {
-						FireflyAi.rememberHome(this, this.blockPosition());
-					}
+		if (this.hasHome && (this.tickCount + this.getId()) % HOME_CHECK_INTERVAL == 0) {
+			BlockPos home = FireflyAi.getHome(this);
+			if (home != null && FireflyAi.isInHomeDimension(this)) {
+				if (!isValidHomePos(this.level(), home)) {
+					FireflyAi.rememberHome(this, this.blockPosition());
 				}
 			}
 		}
@@ -450,7 +469,7 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		}
 
 		if (this.level() instanceof ServerLevel serverLevel) {
-			Vec3 wind = WindManager.getWindManager(serverLevel).getWindMovement(this.position(), 1D, 100D, 100D).scale(0.01D);
+			Vec3 wind = SectionWindCache.getWindMovement(serverLevel, this.position(), 1D, 100D, 100D).scale(0.01D);
 			wind = wind.subtract(0D, wind.y * 0.7D, 0D);
 			this.setDeltaMovement(this.getDeltaMovement().add(wind.scale(0.02D)));
 		}
@@ -532,7 +551,6 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		compound.putFloat("prevScale", this.getPrevAnimScale());
 		compound.putBoolean("despawning", this.despawning);
 		compound.putString("color", Objects.requireNonNull(WilderWildRegistries.FIREFLY_COLOR.getKey(this.getColor())).toString());
-		compound.putInt("homeCheckCooldown", this.homeCheckCooldown);
 		compound.putBoolean("wasNamedNectar", this.wasNamedNectar);
 		compound.putBoolean("shouldCheckSpawn", this.shouldCheckSpawn);
 	}
@@ -568,9 +586,6 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		if (color != null) {
 			this.setColor(color);
 		}
-		if (compound.contains("homeCheckCooldown")) {
-			this.homeCheckCooldown = compound.getInt("homeCheckCooldown");
-		}
 		if (compound.contains("wasNamedNectar")) {
 			this.wasNamedNectar = compound.getBoolean("wasNamedNectar");
 		}
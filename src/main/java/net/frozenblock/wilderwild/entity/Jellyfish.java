@@ -20,20 +20,18 @@ package net.frozenblock.wilderwild.entity;
 
 import com.mojang.serialization.Dynamic;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
-import net.frozenblock.lib.entity.api.EntityUtils;
 import net.frozenblock.lib.entity.api.NoFlopAbstractFish;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.ai.jellyfish.JellyfishAi;
 import net.frozenblock.wilderwild.entity.ai.jellyfish.JellyfishTemptGoal;
+import net.frozenblock.wilderwild.entity.impl.MobCensus;
 import net.frozenblock.wilderwild.entity.variant.JellyfishVariant;
 import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
+import net.frozenblock.wilderwild.registry.WWEntityDataSerializers;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
 import net.frozenblock.wilderwild.registry.WWItems;
 import net.frozenblock.wilderwild.registry.WWSounds;
@@ -124,10 +122,9 @@ public class Jellyfish extends NoFlopAbstractFish {
 		.filter(JellyfishVariant::pearlescent)
 		.collect(Collectors.toList())
 	);
-	private static final EntityDataAccessor<String> VARIANT = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.STRING);
+	private static final EntityDataAccessor<JellyfishVariant> VARIANT = SynchedEntityData.defineId(Jellyfish.class, WWEntityDataSerializers.JELLYFISH_VARIANT);
 	private static final EntityDataAccessor<Boolean> CAN_REPRODUCE = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
 	private static final EntityDataAccessor<Boolean> IS_BABY = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
-	private static final Map<ServerLevelAccessor, Integer> NON_PEARLESCENT_JELLYFISH_PER_LEVEL = new HashMap<>();
 	public final TargetingConditions targetingConditions = TargetingConditions.forNonCombat().ignoreInvisibilityTesting().ignoreLineOfSight().selector(this::canTargetEntity);
 	public float xBodyRot;
 	public float xRot1;
@@ -146,6 +143,8 @@ public class Jellyfish extends NoFlopAbstractFish {
 	public int reproductionCooldown;
 	private int forcedAge;
 	private int forcedAgeTimer;
+	@Nullable
+	private JellyfishVariant censusVariant;
 
 	public Jellyfish(@NotNull EntityType<? extends Jellyfish> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -153,22 +152,7 @@ public class Jellyfish extends NoFlopAbstractFish {
 	}
 
 	public static int getJellyfishPerLevel(@NotNull ServerLevel level, boolean pearlescent) {
-		AtomicInteger count = new AtomicInteger();
-		if (!NON_PEARLESCENT_JELLYFISH_PER_LEVEL.containsKey(level)) {
-			EntityUtils.getEntitiesPerLevel(level).forEach(entity -> {
-				if (entity instanceof Jellyfish jellyfish && (pearlescent ? jellyfish.getVariant().pearlescent() : jellyfish.getVariant().isNormal())) {
-					count.addAndGet(1);
-				}
-			});
-			NON_PEARLESCENT_JELLYFISH_PER_LEVEL.put(level, count.get());
-		} else {
-			count.set(NON_PEARLESCENT_JELLYFISH_PER_LEVEL.get(level));
-		}
-		return count.get();
-	}
-
-	public static void clearLevelToNonPearlescentCount() {
-		NON_PEARLESCENT_JELLYFISH_PER_LEVEL.clear();
+		return MobCensus.get(level).getJellyfishCount(pearlescent);
 	}
 
 	public static boolean checkJellyfishSpawnRules(
@@ -667,11 +651,27 @@ public class Jellyfish extends NoFlopAbstractFish {
 
 	@NotNull
 	public JellyfishVariant getVariant() {
-		return WilderWildRegistries.JELLYFISH_VARIANT.getOptional(ResourceLocation.parse(this.entityData.get(VARIANT))).orElse(JellyfishVariant.PINK);
+		return this.entityData.get(VARIANT);
 	}
 
 	public void setVariant(@NotNull JellyfishVariant variant) {
-		this.entityData.set(VARIANT, variant.key().toString());
+		this.entityData.set(VARIANT, variant);
+		if (this.censusVariant != null && this.censusVariant != variant && this.level() instanceof ServerLevel serverLevel) {
+			MobCensus.onJellyfishVariantChanged(serverLevel, this.censusVariant, variant);
+			this.censusVariant = variant;
+		}
+	}
+
+	/**
+	 * @return the variant this jellyfish is counted as in its level's {@link MobCensus}, or null if it isn't counted.
+	 */
+	@Nullable
+	public JellyfishVariant getCensusVariant() {
+		return this.censusVariant;
+	}
+
+	public void setCensusVariant(@Nullable JellyfishVariant censusVariant) {
+		this.censusVariant = censusVariant;
 	}
 
 	public boolean canReproduce() {
@@ -745,7 +745,7 @@ public class Jellyfish extends NoFlopAbstractFish {
 	@Override
 	protected void defineSynchedData(SynchedEntityData.Builder builder) {
 		super.defineSynchedData(builder);
-		builder.define(VARIANT, JellyfishVariant.PINK.key().toString());
+		builder.define(VARIANT, JellyfishVariant.PINK);
 		builder.define(CAN_REPRODUCE, false);
 		builder.define(IS_BABY, false);
 	}
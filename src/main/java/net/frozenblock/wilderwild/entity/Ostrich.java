@@ -130,6 +130,8 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 	@Nullable
 	private UUID lastAttackCommander;
 	@Nullable
+	private Entity cachedAttackCommander;
+	@Nullable
 	private Vec3 prevBeakPosition;
 	@Nullable
 	private Vec3 beakPosition;
@@ -388,35 +390,27 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 
 	@Nullable
 	public Entity getLastAttackCommander() {
-		Entity commander = null;
+		if (this.cachedAttackCommander != null && !this.cachedAttackCommander.isRemoved() && this.cachedAttackCommander.level() == this.level()) {
+			return this.cachedAttackCommander;
+		}
+		this.cachedAttackCommander = null;
 		if (this.lastAttackCommander != null && this.level() instanceof ServerLevel serverLevel) {
-			if (this.commanderWasPlayer) {
-				for (Player player : serverLevel.players()) {
-					if (player.getUUID().equals(this.lastAttackCommander)) {
-						commander = player;
-						break;
-					}
-				}
-			} else {
-				for (Entity entity : serverLevel.entityManager.getEntityGetter().getAll()) {
-					if (entity.getUUID().equals(this.lastAttackCommander)) {
-						commander = entity;
-						break;
-					}
-				}
-			}
-
+			this.cachedAttackCommander = this.commanderWasPlayer
+				? serverLevel.getPlayerByUUID(this.lastAttackCommander)
+				: serverLevel.getEntity(this.lastAttackCommander);
 		}
-		return commander;
+		return this.cachedAttackCommander;
 	}
 
 	public void setLastAttackCommander(@Nullable Entity entity) {
 		if (entity != null) {
 			this.attackHasCommander = true;
+			this.cachedAttackCommander = entity;
 			this.lastAttackCommander = entity.getUUID();
 			this.commanderWasPlayer = entity instanceof Player;
 		} else {
 			this.attackHasCommander = false;
+			this.cachedAttackCommander = null;
 			this.lastAttackCommander = null;
 			this.commanderWasPlayer = false;
 		}
@@ -1055,6 +1049,7 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 		this.beakAnimProgress = compound.getFloat("BeakAnimProgress");
 		if (compound.contains("LastAttackCommander")) {
 			this.lastAttackCommander = compound.getUUID("LastAttackCommander");
+			this.cachedAttackCommander = null;
 		}
 		this.attackHasCommander = compound.getBoolean("AttackHasCommander");
 		this.commanderWasPlayer = compound.getBoolean("CommanderWasPlayer");
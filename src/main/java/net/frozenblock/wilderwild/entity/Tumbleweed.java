@@ -24,6 +24,7 @@ import net.frozenblock.lib.tag.api.TagUtils;
 import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.block.MesogleaBlock;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.frozenblock.wilderwild.entity.impl.MobCensus;
 import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.registry.WWDamageTypes;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
@@ -81,7 +82,10 @@ import net.minecraft.world.level.LightLayer;
 import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -94,6 +98,8 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	public static final double INACTIVE_PLAYER_DISTANCE_FROM = 24D;
 	public static final int MAX_INACTIVE_TICKS = 200;
 	public static final int TUMBLEWEED_PLANT_ITEM_CHANCE = 15;
+	private static final int PICKUP_INTERVAL = 4;
+	private static final int SLOW_CHECK_INTERVAL = 20;
 	private static final EntityDataAccessor<ItemStack> ITEM_STACK = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.ITEM_STACK);
 	private static final EntityDataAccessor<Float> ITEM_X = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Float> ITEM_Z = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.FLOAT);
@@ -112,6 +118,10 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	public float itemX;
 	public float itemZ;
 	private float lookRot;
+	private boolean nearPlayer = true;
+	private long skyBrightnessPos;
+	private int skyBrightness = -1;
+	private final BlockPos.MutableBlockPos kinematicPos = new BlockPos.MutableBlockPos();
 
 	public Tumbleweed(@NotNull EntityType<Tumbleweed> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -214,15 +224,110 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 			this.itemX = this.getItemX();
 			this.itemZ = this.getItemZ();
 		} else if (!this.isRemoved() && this.level() instanceof ServerLevel serverLevel) {
+			this.level().getProfiler().push("tumbleweed");
 			this.heal(1F);
-			double brightness = this.level().getBrightness(LightLayer.SKY, BlockPos.containing(this.getEyePosition()));
+			double brightness = this.getSkyBrightness();
 			this.checkActive(brightness);
 			this.moveWithWind(serverLevel, brightness, deltaPos);
 			this.tickAfterWindLeash();
+			this.level().getProfiler().popPush("tumbleweedPickup");
 			this.pickupItem();
+			this.level().getProfiler().pop();
 		}
 	}
 
+	/**
+	 * Tumbleweeds away from players drift over flat ground without resolving block collisions, falling back to full collision
+	 * whenever {@link #travelKinematically} can't move them.
+	 */
+	@Override
+	public void travel(@NotNull Vec3 travelVector) {
+		if (!this.canTravelKinematically() || !this.travelKinematically()) {
+			super.travel(travelVector);
+		}
+	}
+
+	private boolean canTravelKinematically() {
+		return !this.nearPlayer
+			&& this.level() instanceof ServerLevel
+			&& !this.noPhysics
+			&& !this.isLeashed()
+			&& !this.isPassenger()
+			&& !this.isVehicle()
+			&& !this.wasTouchingWater
+			&& !this.isInLava()
+			&& !this.isTouchingStickingBlock
+			&& !this.isTouchingStoppingBlock;
+	}
+
+	/**
+	 * Moves the Tumbleweed by its velocity above the floor read from the {@link Heightmap.Types#MOTION_BLOCKING} heightmap,
+	 * applying gravity and friction the same way {@link LivingEntity#travel} does.
+	 * <p>
+	 * Every column the Tumbleweed sweeps through must share the same height, be topped by a full block, and have nothing it could
+	 * collide with above that, so the floor is the only thing it can hit.
+	 *
+	 * @return whether the Tumbleweed was moved, or {@code false} if it needs full collision this tick.
+	 */
+	private boolean travelKinematically() {
+		Level level = this.level();
+		Vec3 movement = this.getDeltaMovement();
+		AABB sweptBox = this.getBoundingBox().expandTowards(movement);
+		if (!level.getWorldBorder().isWithinBounds(sweptBox)) return false;
+
+		int minX = Mth.floor(sweptBox.minX);
+		int minY = Mth.floor(sweptBox.minY);
+		int minZ = Mth.floor(sweptBox.minZ);
+		int maxX = Mth.floor(sweptBox.maxX);
+		int maxY = Mth.floor(sweptBox.maxY);
+		int maxZ = Mth.floor(sweptBox.maxZ);
+		BlockPos.MutableBlockPos mutablePos = this.kinematicPos;
+		CollisionContext collisionContext = CollisionContext.of(this);
+		int floorY = Integer.MIN_VALUE;
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				if (!level.hasChunkAt(mutablePos.set(x, 0, z))) return false;
+				int height = level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
+				if (floorY == Integer.MIN_VALUE) {
+					floorY = height;
+				} else if (height != floorY) {
+					return false;
+				}
+				if (!level.getBlockState(mutablePos.set(x, height - 1, z)).isCollisionShapeFullBlock(level, mutablePos)) return false;
+				for (int y = Math.max(minY, height); y <= maxY; y++) {
+					if (!level.getBlockState(mutablePos.set(x, y, z)).getCollisionShape(level, mutablePos, collisionContext).isEmpty()) return false;
+				}
+			}
+		}
+		if (this.getY() < floorY - 1.0E-7D || !level.getEntityCollisions(this, sweptBox).isEmpty()) return false;
+
+		BlockState floorState = level.getBlockState(mutablePos.set(this.getBlockX(), floorY - 1, this.getBlockZ()));
+		float friction = this.onGround() ? floorState.getBlock().getFriction() * 0.91F : 0.91F;
+		double y = this.getY() + movement.y;
+		boolean landed = y <= floorY;
+		this.setPos(this.getX() + movement.x, landed ? floorY : y, this.getZ() + movement.z);
+		this.horizontalCollision = false;
+		this.minorHorizontalCollision = false;
+		this.verticalCollision = landed;
+		this.verticalCollisionBelow = landed;
+		this.setOnGround(landed);
+		this.checkInsideBlocks();
+		if (landed) {
+			BlockPos floorPos = mutablePos.immutable();
+			this.resetFallDistance();
+			floorState.getBlock().updateEntityAfterFallOn(level, this);
+			floorState.getBlock().stepOn(level, floorPos, floorState, this);
+			this.frozenLib$onSteppedOnBlock(level, floorPos, floorState);
+		} else if (movement.y < 0D) {
+			this.fallDistance -= (float) movement.y;
+		}
+
+		Vec3 deltaMovement = this.getDeltaMovement();
+		this.setDeltaMovement(deltaMovement.x * friction, (deltaMovement.y - this.getGravity()) * 0.98D, deltaMovement.z * friction);
+		this.calculateEntityAnimation(false);
+		return true;
+	}
+
 	public void setAngles(@NotNull Vec3 deltaPos) {
 		if (deltaPos.horizontalDistance() > 0.01D) {
 			this.lookRot = -((float) Mth.atan2(deltaPos.x, deltaPos.z)) * Mth.RAD_TO_DEG;
@@ -262,9 +367,32 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		}
 	}
 
+	/**
+	 * Reads the sky light at the Tumbleweed's eyes, only looking it up again once its eyes enter a new block or every
+	 * {@link #SLOW_CHECK_INTERVAL} ticks.
+	 */
+	private int getSkyBrightness() {
+		long eyeBlockPos = BlockPos.asLong(Mth.floor(this.getX()), Mth.floor(this.getEyeY()), Mth.floor(this.getZ()));
+		if (eyeBlockPos != this.skyBrightnessPos || this.skyBrightness < 0 || this.isSlowCheckTick()) {
+			this.skyBrightnessPos = eyeBlockPos;
+			this.skyBrightness = this.level().getBrightness(LightLayer.SKY, BlockPos.of(eyeBlockPos));
+		}
+		return this.skyBrightness;
+	}
+
+	/**
+	 * Staggers checks that don't need to run every tick across Tumbleweeds by their id.
+	 */
+	private boolean isSlowCheckTick() {
+		return (this.tickCount + this.getId()) % SLOW_CHECK_INTERVAL == 0;
+	}
+
 	private void checkActive(double brightness) {
-		Player entity = this.level().getNearestPlayer(this, -1D);
-		if (!this.requiresCustomPersistence() && ((brightness < 7 && (entity == null || entity.distanceTo(this) > INACTIVE_PLAYER_DISTANCE_FROM)) || this.isTouchingStoppingBlock || this.isTouchingStickingBlock || (this.wasTouchingWater && !(this.getBlockStateOn().getBlock() instanceof MesogleaBlock)))) {
+		if (this.isSlowCheckTick() || this.tickCount <= 1) {
+			Player entity = this.level().getNearestPlayer(this, -1D);
+			this.nearPlayer = entity != null && entity.distanceTo(this) <= INACTIVE_PLAYER_DISTANCE_FROM;
+		}
+		if (!this.requiresCustomPersistence() && ((brightness < 7 && !this.nearPlayer) || this.isTouchingStoppingBlock || this.isTouchingStickingBlock || (this.wasTouchingWater && !(this.getBlockStateOn().getBlock() instanceof MesogleaBlock)))) {
 			++this.ticksSinceActive;
 			if (this.ticksSinceActive >= MAX_INACTIVE_TICKS) {
 				this.destroy(false);
@@ -321,8 +449,9 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		if (inventoryStack.getCount() > 1) {
 			this.level().addFreshEntity(new ItemEntity(this.level(), this.getX(), this.getY(), this.getZ(), inventoryStack.split(inventoryStack.getCount() - 1)));
 		}
-		if (!this.level().isClientSide && inventoryStack.isEmpty() && this.level().getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING) && !this.isRemoved()) {
-			List<ItemEntity> list = this.level().getEntitiesOfClass(ItemEntity.class, this.getBoundingBox().inflate(0.15D));
+		if (inventoryStack.isEmpty() && this.canSearchForItems()) {
+			AABB searchBox = this.getBoundingBox().inflate(0.15D).expandTowards(this.getDeltaMovement().scale(PICKUP_INTERVAL - 1));
+			List<ItemEntity> list = this.level().getEntitiesOfClass(ItemEntity.class, searchBox);
 			for (ItemEntity item : list) {
 				if (this.isMovingTowards(item)) {
 					ItemStack stack = item.getItem();
@@ -338,6 +467,20 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		this.setVisibleItem(this.inventory.get(0));
 	}
 
+	/**
+	 * Looks for items every {@link #PICKUP_INTERVAL} ticks, offset by the Tumbleweed's id so they don't all search on the same tick,
+	 * and only while any items are loaded in the level.
+	 * <p>
+	 * The search box is stretched along the Tumbleweed's movement to cover the ticks in between.
+	 */
+	private boolean canSearchForItems() {
+		return this.level() instanceof ServerLevel serverLevel
+			&& !this.isRemoved()
+			&& (this.tickCount + this.getId()) % PICKUP_INTERVAL == 0
+			&& MobCensus.get(serverLevel).getCount(EntityType.ITEM) > 0
+			&& serverLevel.getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING);
+	}
+
 	public void dropItem(boolean killed) {
 		if (!this.isItemNatural || killed) {
 			this.level().addFreshEntity(new ItemEntity(this.level(), this.getX(), this.getEyeY(), this.getZ(), this.inventory.get(0).split(1)));
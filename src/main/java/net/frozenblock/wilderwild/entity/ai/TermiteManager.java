@@ -31,32 +31,28 @@ import java.util.Optional;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.block.HollowedLogBlock;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
-import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
+import net.frozenblock.wilderwild.entity.ai.termite.TermiteBlockStateFlags;
+import net.frozenblock.wilderwild.entity.ai.termite.TermiteEffectBuffer;
+import net.frozenblock.wilderwild.entity.ai.termite.TermiteLevelManager;
+import net.frozenblock.wilderwild.entity.ai.termite.TermiteSectionCache;
+import net.frozenblock.wilderwild.networking.packet.WWTermiteEffectsPacket;
 import net.frozenblock.wilderwild.registry.WWBlocks;
-import net.frozenblock.wilderwild.registry.WWParticleTypes;
-import net.frozenblock.wilderwild.registry.WWSounds;
-import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.particles.BlockParticleOption;
-import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.sounds.SoundSource;
-import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
-import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
 import net.minecraft.world.level.gameevent.GameEvent;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
@@ -74,6 +70,9 @@ public class TermiteManager {
 	private final ArrayList<Termite> termites = new ArrayList<>();
 	public int ticksToNextTermite;
 	public int highestID;
+	public long effectCount;
+	public long effectPacketCount;
+	public long effectByteCount;
 
 	public TermiteManager() {
 	}
@@ -84,7 +83,7 @@ public class TermiteManager {
 		return natural ? TERMITE_COUNT_NATURAL : TERMITE_COUNT;
 	}
 
-	public static boolean areTermitesSafe(@NotNull Level level, @NotNull BlockPos pos) {
+	public static boolean areTermitesSafe(@NotNull BlockGetter level, @NotNull BlockPos pos) {
 		BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
 		for (Direction direction : Direction.values()) {
 			if (!isPosSafeForTermites(level, mutableBlockPos.move(direction))) {
@@ -95,12 +94,12 @@ public class TermiteManager {
 		return true;
 	}
 
-	public static boolean isPosSafeForTermites(@NotNull LevelAccessor level, @NotNull BlockPos pos) {
+	public static boolean isPosSafeForTermites(@NotNull BlockGetter level, @NotNull BlockPos pos) {
 		return isStateSafeForTermites(level.getBlockState(pos));
 	}
 
 	public static boolean isStateSafeForTermites(@NotNull BlockState state) {
-		return !state.is(WWBlockTags.KILLS_TERMITE) && state.getFluidState().isEmpty();
+		return TermiteBlockStateFlags.has(state, TermiteBlockStateFlags.SAFE);
 	}
 
 	public void addTermite(@NotNull BlockPos pos) {
@@ -108,62 +107,86 @@ public class TermiteManager {
 		this.termites.add(termite);
 	}
 
-	public void tick(@NotNull Level level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn) {
+	public boolean hasTermites() {
+		return !this.termites.isEmpty();
+	}
+
+	/**
+	 * Handles releasing and recalling termites at the mound.
+	 * <p>
+	 * Termites that are out of the mound are moved by {@link TermiteLevelManager}, see {@link #tickTermites}.
+	 *
+	 * @return whether a termite was added or removed.
+	 */
+	public boolean tick(@NotNull ServerLevel level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn) {
 		int maxTermites = maxTermites(natural, awake, canSpawn);
-		ArrayList<Termite> termitesToRemove = new ArrayList<>();
-		RandomSource random = level.getRandom();
-		for (Termite termite : this.termites) {
-			if (termite.tick(level, natural, random)) {
-				if (level instanceof ServerLevel serverLevel) {
-					BlockPos termitePos = termite.getPos();
-					serverLevel.sendParticles(
-						WWParticleTypes.TERMITE,
-						termitePos.getX() + 0.5D,
-						termitePos.getY() + 0.5D,
-						termitePos.getZ() + 0.5D,
-						termite.eating ? PARTICLE_COUNT_WHILE_EATING : PARTICLE_COUNT,
-						0D,
-						0D,
-						0D,
-						0D
-					);
-				}
-			} else {
-				level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
-				termitesToRemove.add(termite);
-			}
-		}
-		for (Termite termite : termitesToRemove) {
-			level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
-			this.termites.remove(termite);
-			level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
-		}
+		boolean changed = false;
+		TermiteEffectBuffer effects = TermiteLevelManager.get(level).effects();
+		effects.setSource(this);
 		if (this.termites.size() < maxTermites) {
 			if (this.ticksToNextTermite > 0) {
 				--this.ticksToNextTermite;
 			} else {
 				this.addTermite(pos);
 				level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
-				level.playSound(null, pos, WWSounds.BLOCK_TERMITE_MOUND_EXIT, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+				effects.addSound(WWTermiteEffectsPacket.Effect.MOUND_EXIT, pos);
 				this.ticksToNextTermite = natural ? TERMITE_RELEASE_COUNTDOWN_NATURAL : TERMITE_RELEASE_COUNTDOWN;
+				changed = true;
 			}
 		}
+		RandomSource random = level.getRandom();
 		while (this.termites.size() > maxTermites) {
 			Termite termite = this.termites.get(random.nextInt(this.termites.size()));
-			level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+			effects.addSound(WWTermiteEffectsPacket.Effect.MOUND_ENTER, termite.pos);
 			level.gameEvent(null, GameEvent.TELEPORT, Vec3.atCenterOf(termite.pos));
 			this.termites.remove(termite);
 			level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
+			changed = true;
 		}
-		termitesToRemove.clear();
+		effects.setSource(null);
+		return changed;
 	}
+
+	/**
+	 * Moves every termite that is out of the mound.
+	 *
+	 * @param blockGetter the {@link TermiteSectionCache} shared by every termite in the level this tick.
+	 * @return whether a termite moved, started or stopped eating, or returned to the mound.
+	 */
+	public boolean tickTermites(@NotNull ServerLevel level, @NotNull BlockGetter blockGetter, boolean natural, @NotNull RandomSource random) {
+		boolean changed = false;
+		TermiteEffectBuffer effects = TermiteLevelManager.get(level).effects();
+		effects.setSource(this);
+		for (int i = 0; i < this.termites.size();) {
+			Termite termite = this.termites.get(i);
+			BlockPos previousPos = termite.pos;
+			boolean wasEating = termite.eating;
+			if (termite.tick(level, blockGetter, natural, random)) {
+				BlockPos termitePos = termite.getPos();
+				effects.addTermiteParticles(termitePos, termite.eating ? PARTICLE_COUNT_WHILE_EATING : PARTICLE_COUNT);
+				changed |= wasEating != termite.eating || !previousPos.equals(termitePos);
+				i++;
+			} else {
+				effects.addSound(WWTermiteEffectsPacket.Effect.MOUND_ENTER, termite.pos);
+				level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
+				this.termites.remove(i);
+				level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(termite.mound));
+				changed = true;
+			}
+		}
+		effects.setSource(null);
+		return changed;
+	}
+
 	public static final int TERMITE_RELEASE_COUNTDOWN = 200;
 	public static final int TERMITE_RELEASE_COUNTDOWN_NATURAL = 320;
 
 	public void clearTermites(@NotNull Level level) {
 		for (Termite termite : this.termites) {
 			level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
-			level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+			if (level instanceof ServerLevel serverLevel) {
+				TermiteLevelManager.get(serverLevel).effects().addSound(WWTermiteEffectsPacket.Effect.MOUND_ENTER, termite.pos);
+			}
 		}
 		this.termites.clear();
 	}
@@ -249,22 +272,23 @@ public class TermiteManager {
 			this.id = id;
 		}
 
-		public boolean tick(@NotNull Level level, boolean natural, RandomSource random) {
+		public boolean tick(@NotNull Level level, @NotNull BlockGetter blockGetter, boolean natural, RandomSource random) {
 			boolean exit = false;
 			++this.idleTicks;
 			if (this.idleTicks > (natural ? MAX_IDLE_TICKS_NATURAL : MAX_IDLE_TICKS) || isTooFar(natural, this.mound, this.pos)) {
 				return false;
 			}
-			if (!areTermitesSafe(level, this.pos)) {
+			if (!areTermitesSafe(blockGetter, this.pos)) {
 				return false;
 			}
 			if (canMove(level, this.pos)) {
-				BlockState blockState = level.getBlockState(this.pos);
+				BlockState blockState = blockGetter.getBlockState(this.pos);
 				Block block = blockState.getBlock();
-				boolean degradable = !natural ? DEGRADABLE_BLOCKS.containsKey(block) : NATURAL_DEGRADABLE_BLOCKS.containsKey(block);
-				boolean breakable = blockState.is(WWBlockTags.TERMITE_BREAKABLE);
-				boolean leaves = blockState.is(BlockTags.LEAVES);
-				if ((degradable || breakable) && isEdibleProperty(blockState)) {
+				int flags = TermiteBlockStateFlags.getFlags(blockState);
+				boolean degradable = (flags & degradableFlag(natural)) != 0;
+				boolean breakable = (flags & TermiteBlockStateFlags.BREAKABLE) != 0;
+				boolean leaves = (flags & TermiteBlockStateFlags.LEAVES) != 0;
+				if ((degradable || breakable) && isEdible(flags)) {
 					this.eating = true;
 					exit = true;
 					int additionalPower = breakable ? leaves ? DESTROY_POWER_LEAVES : DESTROY_POWER_BREAKABLE : DESTROY_POWER;
@@ -282,11 +306,11 @@ public class TermiteManager {
 							level.setBlockAndUpdate(this.pos, setState);
 							if (setBlock instanceof HollowedLogBlock) {
 								boolean nether = new ItemStack(setBlock.asItem()).is(ItemTags.NON_FLAMMABLE_WOOD);
-								level.playSound(null, pos, nether ? WWSounds.STEM_HOLLOWED : WWSounds.LOG_HOLLOWED, SoundSource.BLOCKS, BLOCK_SOUND_VOLUME, 0.95F + (random.nextFloat() * 0.2F));
+								addSound(level, nether ? WWTermiteEffectsPacket.Effect.STEM_HOLLOWED : WWTermiteEffectsPacket.Effect.LOG_HOLLOWED, this.pos);
 							}
 						}
 						spawnEatParticles(level, blockState, this.pos, random);
-						level.playSound(null, pos, WWSounds.BLOCK_TERMITE_MOUND_TERMITE_GNAW_FINISH, SoundSource.BLOCKS, BLOCK_SOUND_VOLUME, 0.9F + (random.nextFloat() * 0.25F));
+						addSound(level, WWTermiteEffectsPacket.Effect.GNAW_FINISH, this.pos);
 					}
 				} else {
 					this.eating = false;
@@ -296,7 +320,7 @@ public class TermiteManager {
 						direction = Direction.DOWN;
 					}
 					BlockPos offset = this.pos.relative(direction);
-					BlockState state = level.getBlockState(offset);
+					BlockState state = blockGetter.getBlockState(offset);
 					if (!isStateSafeForTermites(state)) {
 						return false;
 					}
@@ -306,15 +330,15 @@ public class TermiteManager {
 						return true;
 					} else {
 						this.update = UPDATE_DELAY_IN_TICKS;
-						BlockPos priority = degradableBreakablePos(level, this.pos, natural, random);
+						BlockPos priority = degradableBreakablePos(blockGetter, this.pos, natural, random);
 						if (priority != null) {
 							this.pos = priority;
 							exit = true;
 						} else {
-							BlockPos ledge = ledgePos(level, offset, natural);
+							BlockPos ledge = ledgePos(blockGetter, offset, natural);
 							BlockPos posUp = this.pos.above();
-							BlockState stateUp = level.getBlockState(posUp);
-							if (exposedToAir(level, offset, natural)
+							BlockState stateUp = blockGetter.getBlockState(posUp);
+							if (exposedToAir(blockGetter, offset, natural)
 								&& isBlockMovable(state, direction)
 								&& !(direction != Direction.DOWN && state.isAir() && (!this.mound.closerThan(this.pos, 1.5D)) && ledge == null)
 							) {
@@ -323,10 +347,10 @@ public class TermiteManager {
 									this.pos = ledge;
 								}
 								exit = true;
-							} else if (ledge != null && exposedToAir(level, ledge, natural)) {
+							} else if (ledge != null && exposedToAir(blockGetter, ledge, natural)) {
 								this.pos = ledge;
 								exit = true;
-							} else if (!stateUp.isAir() && isBlockMovable(stateUp, Direction.UP) && exposedToAir(level, posUp, natural)) {
+							} else if (!stateUp.isAir() && isBlockMovable(stateUp, Direction.UP) && exposedToAir(blockGetter, posUp, natural)) {
 								this.pos = posUp;
 								exit = true;
 							}
@@ -334,14 +358,14 @@ public class TermiteManager {
 					}
 				}
 			}
-			return exit || (exposedToAir(level, this.pos, natural));
+			return exit || (exposedToAir(blockGetter, this.pos, natural));
 		}
 
 		@Nullable
-		public static BlockPos ledgePos(@NotNull Level level, @NotNull BlockPos pos, boolean natural) {
+		public static BlockPos ledgePos(@NotNull BlockGetter level, @NotNull BlockPos pos, boolean natural) {
 			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
 			BlockState state = level.getBlockState(mutableBlockPos);
-			if (DEGRADABLE_BLOCKS.containsKey(state.getBlock()) || state.is(WWBlockTags.TERMITE_BREAKABLE)) {
+			if (TermiteBlockStateFlags.has(state, TermiteBlockStateFlags.DEGRADABLE | TermiteBlockStateFlags.BREAKABLE)) {
 				return mutableBlockPos;
 			}
 			mutableBlockPos.move(Direction.DOWN);
@@ -358,7 +382,7 @@ public class TermiteManager {
 		}
 
 		@Nullable
-		public static BlockPos degradableBreakablePos(@NotNull Level level, @NotNull BlockPos pos, boolean natural, RandomSource random) {
+		public static BlockPos degradableBreakablePos(@NotNull BlockGetter level, @NotNull BlockPos pos, boolean natural, RandomSource random) {
 			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
 			List<Direction> directions = Util.shuffledCopy(Direction.values(), random);
 			BlockState upState = level.getBlockState(mutableBlockPos.move(Direction.UP));
@@ -373,8 +397,9 @@ public class TermiteManager {
 		}
 
 		private static boolean canEatBlock(boolean natural, @NotNull BlockPos.MutableBlockPos mutableBlockPos, @NotNull BlockState state) {
-			if (((!natural ? DEGRADABLE_BLOCKS.containsKey(state.getBlock()) : NATURAL_DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || state.is(WWBlockTags.TERMITE_BREAKABLE)) && isEdibleProperty(state)) {
-				if (state.hasProperty(BlockStateProperties.DOUBLE_BLOCK_HALF) && state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER) {
+			int flags = TermiteBlockStateFlags.getFlags(state);
+			if (canEat(flags, natural)) {
+				if ((flags & TermiteBlockStateFlags.UPPER_HALF) != 0) {
 					mutableBlockPos.move(Direction.DOWN);
 				}
 				return true;
@@ -382,15 +407,28 @@ public class TermiteManager {
 			return false;
 		}
 
+		private static int degradableFlag(boolean natural) {
+			return natural ? TermiteBlockStateFlags.NATURAL_DEGRADABLE : TermiteBlockStateFlags.DEGRADABLE;
+		}
+
+		private static boolean canEat(int flags, boolean natural) {
+			return (flags & (degradableFlag(natural) | TermiteBlockStateFlags.BREAKABLE)) != 0 && isEdible(flags);
+		}
+
+		private static boolean isEdible(int flags) {
+			return (flags & TermiteBlockStateFlags.NATURAL_EDIBLE) != 0 || !WWBlockConfig.get().termite.onlyEatNaturalBlocks;
+		}
+
 		public static boolean isEdibleProperty(@NotNull BlockState state) {
-			return !WWBlockConfig.get().termite.onlyEatNaturalBlocks || (state.hasProperty(WWBlockStateProperties.TERMITE_EDIBLE) ? state.getValue(WWBlockStateProperties.TERMITE_EDIBLE) : !state.is(BlockTags.LEAVES) || !state.hasProperty(BlockStateProperties.PERSISTENT) || !state.getValue(BlockStateProperties.PERSISTENT));
+			return isEdible(TermiteBlockStateFlags.getFlags(state));
 		}
 
-		public static boolean exposedToAir(@NotNull Level level, @NotNull BlockPos pos, boolean natural) {
+		public static boolean exposedToAir(@NotNull BlockGetter level, @NotNull BlockPos pos, boolean natural) {
 			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
 			for (Direction direction : Direction.values()) {
 				BlockState state = level.getBlockState(mutableBlockPos.move(direction));
-				if (state.isAir() || (!state.isRedstoneConductor(level, mutableBlockPos) && !state.is(WWBlockTags.BLOCKS_TERMITE)) || ((!natural && DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || (natural && NATURAL_DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || state.is(WWBlockTags.TERMITE_BREAKABLE)) && isEdibleProperty(state)) {
+				int flags = TermiteBlockStateFlags.getFlags(state);
+				if (state.isAir() || canEat(flags, natural) || ((flags & TermiteBlockStateFlags.BLOCKS_TERMITE) == 0 && !state.isRedstoneConductor(level, mutableBlockPos))) {
 					return true;
 				}
 				mutableBlockPos.move(direction, -1);
@@ -406,12 +444,12 @@ public class TermiteManager {
 		}
 
 		public static boolean isBlockMovable(@NotNull BlockState state, @NotNull Direction direction) {
-			if (state.is(WWBlockTags.BLOCKS_TERMITE)) {
-				return false;
-			}
-			boolean moveableUp = !(direction == Direction.UP && (state.is(BlockTags.INSIDE_STEP_SOUND_BLOCKS) || state.is(BlockTags.REPLACEABLE_BY_TREES) || state.is(BlockTags.FLOWERS)));
-			boolean moveableDown = !(direction == Direction.DOWN && (state.is(Blocks.WATER) || state.is(Blocks.LAVA) || (state.hasProperty(BlockStateProperties.WATERLOGGED) && state.getValue(BlockStateProperties.WATERLOGGED))));
-			return moveableUp && moveableDown;
+			int flags = TermiteBlockStateFlags.getFlags(state);
+			return switch (direction) {
+				case UP -> (flags & TermiteBlockStateFlags.MOVABLE_UP) != 0;
+				case DOWN -> (flags & TermiteBlockStateFlags.MOVABLE_DOWN) != 0;
+				default -> (flags & TermiteBlockStateFlags.BLOCKS_TERMITE) == 0;
+			};
 		}
 
 		public static boolean isTooFar(boolean natural, @NotNull BlockPos mound, @NotNull BlockPos pos) {
@@ -422,34 +460,20 @@ public class TermiteManager {
 			if (level instanceof ServerLevel serverLevel && random.nextInt(GNAW_PARTICLE_CHANCE) == 0) {
 				int count = random.nextInt(MIN_GNAW_PARTICLES, MAX_GNAW_PARTICLES);
 				if (count > 0) {
-					serverLevel.sendParticles(
-						new BlockParticleOption(ParticleTypes.BLOCK, eatState),
-						pos.getX() + 0.5D,
-						pos.getY() + 0.5D,
-						pos.getZ() + 0.5D,
-						count,
-						0.3F,
-						0.3F,
-						0.3F,
-						0.05D
-					);
+					TermiteLevelManager.get(serverLevel).effects().addBlockParticles(WWTermiteEffectsPacket.Effect.GNAW, pos, eatState, count);
 				}
 			}
 		}
 
 		public static void spawnEatParticles(@NotNull Level level, @NotNull BlockState eatState, @NotNull BlockPos pos, RandomSource random) {
 			if (level instanceof ServerLevel serverLevel) {
-				serverLevel.sendParticles(
-					new BlockParticleOption(ParticleTypes.BLOCK, eatState),
-					pos.getX() + 0.5D,
-					pos.getY() + 0.5D,
-					pos.getZ() + 0.5D,
-					random.nextInt(MIN_EAT_PARTICLES, MAX_EAT_PARTICLES),
-					0.3F,
-					0.3F,
-					0.3F,
-					0.05D
-				);
+				TermiteLevelManager.get(serverLevel).effects().addBlockParticles(WWTermiteEffectsPacket.Effect.EAT, pos, eatState, random.nextInt(MIN_EAT_PARTICLES, MAX_EAT_PARTICLES));
+			}
+		}
+
+		private static void addSound(@NotNull Level level, @NotNull WWTermiteEffectsPacket.Effect sound, @NotNull BlockPos pos) {
+			if (level instanceof ServerLevel serverLevel) {
+				TermiteLevelManager.get(serverLevel).effects().addSound(sound, pos);
 			}
 		}
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai.termite;
+
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
+import net.frozenblock.wilderwild.tag.WWBlockTags;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Every tag and map check termites make against a {@link BlockState}, computed once per state and stored as bit flags indexed by the state's id.
+ * <p>
+ * The table depends on block tags, so it's rebuilt whenever the server loads tags.
+ */
+public class TermiteBlockStateFlags {
+	/**
+	 * Doesn't kill termites and has no fluid.
+	 */
+	public static final int SAFE = 1;
+	public static final int DEGRADABLE = 1 << 1;
+	public static final int NATURAL_DEGRADABLE = 1 << 2;
+	public static final int BREAKABLE = 1 << 3;
+	public static final int LEAVES = 1 << 4;
+	public static final int BLOCKS_TERMITE = 1 << 5;
+	public static final int MOVABLE_UP = 1 << 6;
+	public static final int MOVABLE_DOWN = 1 << 7;
+	/**
+	 * Can be eaten while {@code onlyEatNaturalBlocks} is enabled.
+	 */
+	public static final int NATURAL_EDIBLE = 1 << 8;
+	public static final int UPPER_HALF = 1 << 9;
+
+	private static int[] flagsById = new int[0];
+
+	private TermiteBlockStateFlags() {
+	}
+
+	public static void rebuild() {
+		int[] flags = new int[Block.BLOCK_STATE_REGISTRY.size()];
+		for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+			flags[Block.getId(state)] = computeFlags(state);
+		}
+		flagsById = flags;
+	}
+
+	public static int getFlags(@NotNull BlockState state) {
+		int[] flags = flagsById;
+		int id = Block.getId(state);
+		if (id >= 0 && id < flags.length) {
+			return flags[id];
+		}
+		return computeFlags(state);
+	}
+
+	public static boolean has(@NotNull BlockState state, int flag) {
+		return (getFlags(state) & flag) != 0;
+	}
+
+	private static int computeFlags(@NotNull BlockState state) {
+		int flags = 0;
+		Block block = state.getBlock();
+		if (!state.is(WWBlockTags.KILLS_TERMITE) && state.getFluidState().isEmpty()) flags |= SAFE;
+		if (TermiteManager.Termite.DEGRADABLE_BLOCKS.containsKey(block)) flags |= DEGRADABLE;
+		if (TermiteManager.Termite.NATURAL_DEGRADABLE_BLOCKS.containsKey(block)) flags |= NATURAL_DEGRADABLE;
+		if (state.is(WWBlockTags.TERMITE_BREAKABLE)) flags |= BREAKABLE;
+		boolean leaves = state.is(BlockTags.LEAVES);
+		if (leaves) flags |= LEAVES;
+
+		if (state.is(WWBlockTags.BLOCKS_TERMITE)) {
+			flags |= BLOCKS_TERMITE;
+		} else {
+			if (!(state.is(BlockTags.INSIDE_STEP_SOUND_BLOCKS) || state.is(BlockTags.REPLACEABLE_BY_TREES) || state.is(BlockTags.FLOWERS))) {
+				flags |= MOVABLE_UP;
+			}
+			if (!(state.is(Blocks.WATER) || state.is(Blocks.LAVA) || (state.hasProperty(BlockStateProperties.WATERLOGGED) && state.getValue(BlockStateProperties.WATERLOGGED)))) {
+				flags |= MOVABLE_DOWN;
+			}
+		}
+
+		boolean naturalEdible = state.hasProperty(WWBlockStateProperties.TERMITE_EDIBLE)
+			? state.getValue(WWBlockStateProperties.TERMITE_EDIBLE)
+			: !leaves || !state.hasProperty(BlockStateProperties.PERSISTENT) || !state.getValue(BlockStateProperties.PERSISTENT);
+		if (naturalEdible) flags |= NATURAL_EDIBLE;
+
+		if (state.hasProperty(BlockStateProperties.DOUBLE_BLOCK_HALF) && state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER) {
+			flags |= UPPER_HALF;
+		}
+		return flags;
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai.termite;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMaps;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.frozenblock.wilderwild.networking.packet.WWTermiteEffectsPacket;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the particles and sounds termites emit during a tick, and sends them as {@link WWTermiteEffectsPacket}s per chunk to each nearby player.
+ * <p>
+ * Particles and sounds are sent in separate packets, as sounds only reach players within {@link #SOUND_SEND_DISTANCE} blocks.
+ * Effects are attributed to the {@link TermiteManager} set with {@link #setSource}, which keeps count of the packets and bytes sent on its behalf.
+ */
+public final class TermiteEffectBuffer {
+	/**
+	 * Termite particles were sent to players within 32 blocks, padded here horizontally by the distance from a chunk's center to its corners.
+	 */
+	private static final double SEND_DISTANCE = 32D + 12D;
+	private static final double SEND_DISTANCE_SQUARED = SEND_DISTANCE * SEND_DISTANCE;
+	/**
+	 * Players further than this above or below every particle in a chunk don't receive its particles.
+	 */
+	private static final double VERTICAL_SEND_DISTANCE = 32D;
+	/**
+	 * Termite sounds are quieter than full volume, so they were only sent to players within 16 blocks of them.
+	 */
+	private static final double SOUND_SEND_DISTANCE = 16D;
+	private static final double SOUND_SEND_DISTANCE_SQUARED = SOUND_SEND_DISTANCE * SOUND_SEND_DISTANCE;
+
+	private final ServerLevel level;
+	private final Long2ObjectOpenHashMap<ChunkEffects> effectsByChunk = new Long2ObjectOpenHashMap<>();
+	private final ObjectArrayList<ChunkEffects> unusedChunkEffects = new ObjectArrayList<>();
+	@Nullable
+	private TermiteManager source;
+	private EffectList currentEffects;
+	private int effectStart;
+
+	public TermiteEffectBuffer(@NotNull ServerLevel level) {
+		this.level = level;
+	}
+
+	public void setSource(@Nullable TermiteManager source) {
+		this.source = source;
+	}
+
+	public void addTermiteParticles(@NotNull BlockPos pos, int count) {
+		FriendlyByteBuf buf = this.startEffect(WWTermiteEffectsPacket.Effect.TERMITE, pos);
+		buf.writeByte(count);
+		this.endEffect(buf);
+	}
+
+	public void addBlockParticles(@NotNull WWTermiteEffectsPacket.Effect effect, @NotNull BlockPos pos, @NotNull BlockState state, int count) {
+		FriendlyByteBuf buf = this.startEffect(effect, pos);
+		buf.writeVarInt(Block.getId(state));
+		buf.writeByte(count);
+		this.endEffect(buf);
+	}
+
+	public void addSound(@NotNull WWTermiteEffectsPacket.Effect effect, @NotNull BlockPos pos) {
+		this.endEffect(this.startEffect(effect, pos));
+	}
+
+	@NotNull
+	private FriendlyByteBuf startEffect(@NotNull WWTermiteEffectsPacket.Effect effect, @NotNull BlockPos pos) {
+		long chunkPos = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+		ChunkEffects chunkEffects = this.effectsByChunk.get(chunkPos);
+		if (chunkEffects == null) {
+			chunkEffects = this.unusedChunkEffects.isEmpty() ? new ChunkEffects() : this.unusedChunkEffects.pop();
+			this.effectsByChunk.put(chunkPos, chunkEffects);
+		}
+		EffectList effects = effect.isSound() ? chunkEffects.sounds : chunkEffects.particles;
+		effects.include(pos);
+		this.currentEffects = effects;
+		FriendlyByteBuf buf = effects.buf;
+		this.effectStart = buf.writerIndex();
+		buf.writeByte(effect.ordinal());
+		buf.writeByte(((pos.getX() & 15) << 4) | (pos.getZ() & 15));
+		buf.writeShort(pos.getY());
+		return buf;
+	}
+
+	private void endEffect(@NotNull FriendlyByteBuf buf) {
+		EffectList effects = this.currentEffects;
+		effects.effectCount += 1;
+		if (this.source != null) {
+			this.source.effectCount += 1;
+			effects.bytesBySource.addTo(this.source, buf.writerIndex() - this.effectStart);
+		}
+	}
+
+	public void flush() {
+		if (this.effectsByChunk.isEmpty()) return;
+		for (Long2ObjectMap.Entry<ChunkEffects> entry : Long2ObjectMaps.fastIterable(this.effectsByChunk)) {
+			long chunkPos = entry.getLongKey();
+			ChunkEffects chunkEffects = entry.getValue();
+			int chunkX = ChunkPos.getX(chunkPos);
+			int chunkZ = ChunkPos.getZ(chunkPos);
+			this.sendParticles(chunkX, chunkZ, chunkEffects.particles);
+			this.sendSounds(chunkX, chunkZ, chunkEffects.sounds);
+			chunkEffects.clear();
+			this.unusedChunkEffects.add(chunkEffects);
+		}
+		this.effectsByChunk.clear();
+		this.currentEffects = null;
+	}
+
+	private void sendParticles(int chunkX, int chunkZ, @NotNull EffectList particles) {
+		if (particles.effectCount <= 0) return;
+		WWTermiteEffectsPacket packet = particles.createPacket(chunkX, chunkZ);
+		double centerX = SectionPos.sectionToBlockCoord(chunkX, 8);
+		double centerZ = SectionPos.sectionToBlockCoord(chunkZ, 8);
+		double minY = particles.minY - VERTICAL_SEND_DISTANCE;
+		double maxY = particles.maxY + 1 + VERTICAL_SEND_DISTANCE;
+		int recipients = 0;
+		for (ServerPlayer player : this.level.players()) {
+			double xDifference = player.getX() - centerX;
+			double zDifference = player.getZ() - centerZ;
+			if (xDifference * xDifference + zDifference * zDifference <= SEND_DISTANCE_SQUARED && player.getY() >= minY && player.getY() <= maxY) {
+				ServerPlayNetworking.send(player, packet);
+				recipients += 1;
+			}
+		}
+		particles.countSent(packet, recipients);
+	}
+
+	/**
+	 * Sends a chunk's sounds to the players within {@link #SOUND_SEND_DISTANCE} blocks of the box around them.
+	 */
+	private void sendSounds(int chunkX, int chunkZ, @NotNull EffectList sounds) {
+		if (sounds.effectCount <= 0) return;
+		WWTermiteEffectsPacket packet = sounds.createPacket(chunkX, chunkZ);
+		AABB soundBox = new AABB(sounds.minX, sounds.minY, sounds.minZ, sounds.maxX + 1, sounds.maxY + 1, sounds.maxZ + 1);
+		int recipients = 0;
+		for (ServerPlayer player : this.level.players()) {
+			if (soundBox.distanceToSqr(player.position()) <= SOUND_SEND_DISTANCE_SQUARED) {
+				ServerPlayNetworking.send(player, packet);
+				recipients += 1;
+			}
+		}
+		sounds.countSent(packet, recipients);
+	}
+
+	private static final class ChunkEffects {
+		private final EffectList particles = new EffectList();
+		private final EffectList sounds = new EffectList();
+
+		private void clear() {
+			this.particles.clear();
+			this.sounds.clear();
+		}
+	}
+
+	private static final class EffectList {
+		private final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+		private final Reference2IntOpenHashMap<TermiteManager> bytesBySource = new Reference2IntOpenHashMap<>();
+		private int effectCount;
+		private int minX = Integer.MAX_VALUE;
+		private int minY = Integer.MAX_VALUE;
+		private int minZ = Integer.MAX_VALUE;
+		private int maxX = Integer.MIN_VALUE;
+		private int maxY = Integer.MIN_VALUE;
+		private int maxZ = Integer.MIN_VALUE;
+
+		private void include(@NotNull BlockPos pos) {
+			this.minX = Math.min(this.minX, pos.getX());
+			this.minY = Math.min(this.minY, pos.getY());
+			this.minZ = Math.min(this.minZ, pos.getZ());
+			this.maxX = Math.max(this.maxX, pos.getX());
+			this.maxY = Math.max(this.maxY, pos.getY());
+			this.maxZ = Math.max(this.maxZ, pos.getZ());
+		}
+
+		@NotNull
+		private WWTermiteEffectsPacket createPacket(int chunkX, int chunkZ) {
+			byte[] effects = new byte[this.buf.readableBytes()];
+			this.buf.readBytes(effects);
+			return new WWTermiteEffectsPacket(chunkX, chunkZ, this.effectCount, effects);
+		}
+
+		private void countSent(@NotNull WWTermiteEffectsPacket packet, int recipients) {
+			if (recipients <= 0) return;
+			int headerSize = packet.size() - packet.effects().length;
+			for (Reference2IntMap.Entry<TermiteManager> sourceEntry : Reference2IntMaps.fastIterable(this.bytesBySource)) {
+				TermiteManager source = sourceEntry.getKey();
+				source.effectPacketCount += recipients;
+				source.effectByteCount += (long) recipients * (headerSize + sourceEntry.getIntValue());
+			}
+		}
+
+		private void clear() {
+			this.buf.clear();
+			this.bytesBySource.clear();
+			this.effectCount = 0;
+			this.minX = Integer.MAX_VALUE;
+			this.minY = Integer.MAX_VALUE;
+			this.minZ = Integer.MAX_VALUE;
+			this.maxX = Integer.MIN_VALUE;
+			this.maxY = Integer.MIN_VALUE;
+			this.maxZ = Integer.MIN_VALUE;
+		}
+	}
+}
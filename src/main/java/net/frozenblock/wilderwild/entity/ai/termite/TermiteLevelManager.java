@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai.termite;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.Map;
+import net.frozenblock.wilderwild.block.entity.TermiteMoundBlockEntity;
+import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ticks every termite that is out of its mound in a {@link ServerLevel}, then sends the particles and sounds emitted in the level that tick.
+ * <p>
+ * Mounds are indexed by chunk so that termites working the same area are ticked together and share one {@link TermiteSectionCache},
+ * and so that whole chunks outside of block-ticking range can be skipped with a single check.
+ */
+public final class TermiteLevelManager {
+	private static final Map<ServerLevel, TermiteLevelManager> LEVEL_MANAGERS = new Reference2ObjectOpenHashMap<>();
+
+	private final ServerLevel level;
+	private final TermiteSectionCache sectionCache;
+	private final TermiteEffectBuffer effects;
+	private final Long2ObjectOpenHashMap<ObjectArrayList<TermiteMoundBlockEntity>> moundsByChunk = new Long2ObjectOpenHashMap<>();
+	private final ReferenceOpenHashSet<TermiteMoundBlockEntity> trackedMounds = new ReferenceOpenHashSet<>();
+
+	private TermiteLevelManager(@NotNull ServerLevel level) {
+		this.level = level;
+		this.sectionCache = new TermiteSectionCache(level);
+		this.effects = new TermiteEffectBuffer(level);
+	}
+
+	@NotNull
+	public static TermiteLevelManager get(@NotNull ServerLevel level) {
+		TermiteLevelManager manager = LEVEL_MANAGERS.get(level);
+		if (manager == null) {
+			manager = new TermiteLevelManager(level);
+			LEVEL_MANAGERS.put(level, manager);
+		}
+		return manager;
+	}
+
+	public static void tickLevel(@NotNull ServerLevel level) {
+		TermiteLevelManager manager = LEVEL_MANAGERS.get(level);
+		if (manager != null) {
+			manager.tick();
+		}
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		LEVEL_MANAGERS.remove(level);
+	}
+
+	public static void clear() {
+		LEVEL_MANAGERS.clear();
+	}
+
+	/**
+	 * Starts ticking the termites of a mound, if they are not being ticked already.
+	 * <p>
+	 * Mounds are dropped again once they have no termites out, are removed, or are unloaded.
+	 */
+	public void trackMound(@NotNull TermiteMoundBlockEntity mound) {
+		if (this.trackedMounds.add(mound)) {
+			long chunkPos = ChunkPos.asLong(mound.getBlockPos());
+			ObjectArrayList<TermiteMoundBlockEntity> mounds = this.moundsByChunk.get(chunkPos);
+			if (mounds == null) {
+				mounds = new ObjectArrayList<>();
+				this.moundsByChunk.put(chunkPos, mounds);
+			}
+			mounds.add(mound);
+		}
+	}
+
+	public boolean isTracked(@NotNull TermiteMoundBlockEntity mound) {
+		return this.trackedMounds.contains(mound);
+	}
+
+	public int trackedMoundCount() {
+		return this.trackedMounds.size();
+	}
+
+	@NotNull
+	public TermiteEffectBuffer effects() {
+		return this.effects;
+	}
+
+	private void tick() {
+		this.tickTermites();
+		this.effects.flush();
+	}
+
+	private void tickTermites() {
+		if (this.moundsByChunk.isEmpty()) return;
+		this.sectionCache.clear();
+		RandomSource random = this.level.getRandom();
+		ObjectIterator<Long2ObjectMap.Entry<ObjectArrayList<TermiteMoundBlockEntity>>> iterator = Long2ObjectMaps.fastIterator(this.moundsByChunk);
+		while (iterator.hasNext()) {
+			Long2ObjectMap.Entry<ObjectArrayList<TermiteMoundBlockEntity>> entry = iterator.next();
+			ObjectArrayList<TermiteMoundBlockEntity> mounds = entry.getValue();
+			boolean ticking = this.level.shouldTickBlocksAt(entry.getLongKey());
+			for (int i = 0; i < mounds.size();) {
+				TermiteMoundBlockEntity mound = mounds.get(i);
+				if (!mound.isRemoved() && ticking) {
+					BlockState moundState = mound.getBlockState();
+					if (mound.termiteManager.tickTermites(this.level, this.sectionCache, moundState.getValue(WWBlockStateProperties.NATURAL), random)) {
+						mound.updateSync();
+					}
+				}
+				if (mound.isRemoved() || !mound.termiteManager.hasTermites()) {
+					this.trackedMounds.remove(mound);
+					mounds.remove(i);
+				} else {
+					i++;
+				}
+			}
+			if (mounds.isEmpty()) {
+				iterator.remove();
+			}
+		}
+		this.sectionCache.clear();
+	}
+}
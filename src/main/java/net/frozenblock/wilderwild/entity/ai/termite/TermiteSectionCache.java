@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai.termite;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link BlockGetter} shared by every termite in a level for the duration of a tick.
+ * <p>
+ * Chunk sections are looked up once per tick and then read directly, skipping the chunk lookup {@link ServerLevel#getBlockState(BlockPos)} does for every call.
+ * Sections are live, so blocks eaten earlier in the tick are seen by every termite after it.
+ */
+public final class TermiteSectionCache implements BlockGetter {
+	private static final BlockState VOID_AIR = Blocks.VOID_AIR.defaultBlockState();
+	private final ServerLevel level;
+	private final Long2ObjectOpenHashMap<LevelChunkSection> sections = new Long2ObjectOpenHashMap<>();
+	private long lastSectionKey = Long.MAX_VALUE;
+	@Nullable
+	private LevelChunkSection lastSection;
+
+	public TermiteSectionCache(@NotNull ServerLevel level) {
+		this.level = level;
+	}
+
+	public void clear() {
+		this.sections.clear();
+		this.lastSectionKey = Long.MAX_VALUE;
+		this.lastSection = null;
+	}
+
+	@Override
+	@NotNull
+	public BlockState getBlockState(@NotNull BlockPos pos) {
+		int y = pos.getY();
+		if (this.level.isOutsideBuildHeight(y)) {
+			return VOID_AIR;
+		}
+		LevelChunkSection section = this.getSection(pos);
+		if (section == null) {
+			return this.level.getBlockState(pos);
+		}
+		return section.getBlockState(pos.getX() & 15, y & 15, pos.getZ() & 15);
+	}
+
+	@Nullable
+	private LevelChunkSection getSection(@NotNull BlockPos pos) {
+		long sectionKey = SectionPos.asLong(pos);
+		if (sectionKey == this.lastSectionKey) {
+			return this.lastSection;
+		}
+		LevelChunkSection section = this.sections.get(sectionKey);
+		if (section == null) {
+			LevelChunk chunk = this.level.getChunkSource().getChunkNow(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+			if (chunk == null) {
+				return null;
+			}
+			section = chunk.getSection(chunk.getSectionIndex(pos.getY()));
+			this.sections.put(sectionKey, section);
+		}
+		this.lastSectionKey = sectionKey;
+		this.lastSection = section;
+		return section;
+	}
+
+	@Override
+	@NotNull
+	public FluidState getFluidState(@NotNull BlockPos pos) {
+		return this.getBlockState(pos).getFluidState();
+	}
+
+	@Override
+	@Nullable
+	public BlockEntity getBlockEntity(@NotNull BlockPos pos) {
+		return this.level.getBlockEntity(pos);
+	}
+
+	@Override
+	public int getHeight() {
+		return this.level.getHeight();
+	}
+
+	@Override
+	public int getMinBuildHeight() {
+		return this.level.getMinBuildHeight();
+	}
+}
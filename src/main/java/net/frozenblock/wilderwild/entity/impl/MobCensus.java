@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.impl;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Map;
+import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.variant.JellyfishVariant;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Counts the entities loaded in each {@link ServerLevel} by type, and {@link Jellyfish} by variant.
+ * <p>
+ * Counts are updated as entities are loaded and unloaded and as jellyfish change variant, so spawn rules can read them without scanning the level.
+ */
+public final class MobCensus {
+	private static final Map<ServerLevel, MobCensus> LEVEL_CENSUSES = new Reference2ObjectOpenHashMap<>();
+
+	private final Reference2IntOpenHashMap<EntityType<?>> countsByType = new Reference2IntOpenHashMap<>();
+	private final Object2IntOpenHashMap<JellyfishVariant> jellyfishByVariant = new Object2IntOpenHashMap<>();
+	private int pearlescentJellyfish;
+	private int normalJellyfish;
+
+	private MobCensus() {
+	}
+
+	@NotNull
+	public static MobCensus get(@NotNull ServerLevel level) {
+		MobCensus census = LEVEL_CENSUSES.get(level);
+		if (census == null) {
+			census = new MobCensus();
+			LEVEL_CENSUSES.put(level, census);
+		}
+		return census;
+	}
+
+	public static void onEntityLoad(@NotNull Entity entity, @NotNull ServerLevel level) {
+		MobCensus census = get(level);
+		census.countsByType.addTo(entity.getType(), 1);
+		if (entity instanceof Jellyfish jellyfish) {
+			JellyfishVariant variant = jellyfish.getVariant();
+			jellyfish.setCensusVariant(variant);
+			census.addJellyfish(variant, 1);
+		}
+	}
+
+	public static void onEntityUnload(@NotNull Entity entity, @NotNull ServerLevel level) {
+		MobCensus census = LEVEL_CENSUSES.get(level);
+		if (census == null) return;
+		census.remove(entity.getType());
+		if (entity instanceof Jellyfish jellyfish) {
+			JellyfishVariant variant = jellyfish.getCensusVariant();
+			if (variant != null) {
+				jellyfish.setCensusVariant(null);
+				census.addJellyfish(variant, -1);
+			}
+		}
+	}
+
+	/**
+	 * Moves a counted jellyfish from its previous variant to its new one.
+	 */
+	public static void onJellyfishVariantChanged(@NotNull ServerLevel level, @NotNull JellyfishVariant oldVariant, @NotNull JellyfishVariant newVariant) {
+		MobCensus census = get(level);
+		census.addJellyfish(oldVariant, -1);
+		census.addJellyfish(newVariant, 1);
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		LEVEL_CENSUSES.remove(level);
+	}
+
+	public static void clear() {
+		LEVEL_CENSUSES.clear();
+	}
+
+	private void remove(@NotNull EntityType<?> type) {
+		if (this.countsByType.addTo(type, -1) <= 1) {
+			this.countsByType.removeInt(type);
+		}
+	}
+
+	private void addJellyfish(@NotNull JellyfishVariant variant, int amount) {
+		if (this.jellyfishByVariant.addTo(variant, amount) + amount <= 0) {
+			this.jellyfishByVariant.removeInt(variant);
+		}
+		if (variant.pearlescent()) {
+			this.pearlescentJellyfish += amount;
+		} else {
+			this.normalJellyfish += amount;
+		}
+	}
+
+	public int getCount(@NotNull EntityType<?> type) {
+		return this.countsByType.getInt(type);
+	}
+
+	public int getJellyfishCount(boolean pearlescent) {
+		return pearlescent ? this.pearlescentJellyfish : this.normalJellyfish;
+	}
+
+	public int getJellyfishCount(@NotNull JellyfishVariant variant) {
+		return this.jellyfishByVariant.getInt(variant);
+	}
+
+	@NotNull
+	public Object2IntMap<JellyfishVariant> getJellyfishByVariant() {
+		return this.jellyfishByVariant;
+	}
+}
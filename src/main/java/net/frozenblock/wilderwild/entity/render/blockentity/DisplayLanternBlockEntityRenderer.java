@@ -24,6 +24,7 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.wilderwild.block.entity.DisplayLanternBlockEntity;
 import net.frozenblock.wilderwild.client.WWModelLayers;
+import net.frozenblock.wilderwild.entity.render.renderer.FireflyBillboardBatch;
 import net.frozenblock.wilderwild.entity.render.renderer.FireflyRenderer;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.model.geom.builders.LayerDefinition;
@@ -40,6 +41,7 @@ import org.jetbrains.annotations.NotNull;
 @Environment(EnvType.CLIENT)
 public class DisplayLanternBlockEntityRenderer<T extends DisplayLanternBlockEntity> implements BlockEntityRenderer<T> {
 	private final ItemRenderer itemRenderer;
+	private final FireflyBillboardBatch fireflyBatch = new FireflyBillboardBatch();
 
 	public DisplayLanternBlockEntityRenderer(@NotNull Context ctx) {
 		ctx.bakeLayer(WWModelLayers.DISPLAY_LANTERN);
@@ -62,13 +64,15 @@ public class DisplayLanternBlockEntityRenderer<T extends DisplayLanternBlockEnti
 			this.itemRenderer.renderStatic(stack, ItemDisplayContext.GROUND, light, OverlayTexture.NO_OVERLAY, poseStack, buffer, lantern.getLevel(), 1);
 			poseStack.popPose();
 		} else {
+			this.fireflyBatch.begin(buffer, false);
 			for (DisplayLanternBlockEntity.Occupant entity : lantern.getFireflies()) {
 				double ageDelta = entity.age + partialTick;
 				FireflyRenderer.renderFirefly(
 					poseStack,
 					buffer,
+					this.fireflyBatch,
 					light,
-					entity.getCustomName().toLowerCase().contains("nectar"),
+					entity.isNectar(),
 					overlay,
 					entity.age,
 					partialTick,
@@ -80,6 +84,7 @@ public class DisplayLanternBlockEntityRenderer<T extends DisplayLanternBlockEnti
 					(float) entity.pos.z, Minecraft.getInstance().gameRenderer.getMainCamera().rotation()
 				);
 			}
+			this.fireflyBatch.end();
 		}
 	}
 
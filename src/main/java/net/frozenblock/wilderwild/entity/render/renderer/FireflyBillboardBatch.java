@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.render.renderer;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * Collects Firefly billboards and draws them grouped by layer, so a swarm writes each layer's buffer once instead of switching
+ * between the body and glow layers for every Firefly.
+ * <p>
+ * Billboards are only collected while the batch is open for the buffer they're rendered into, and are drawn directly otherwise.
+ */
+public final class FireflyBillboardBatch {
+	/**
+	 * Collects the Fireflies rendered as entities during each frame.
+	 */
+	public static final FireflyBillboardBatch WORLD = new FireflyBillboardBatch();
+
+	private final ObjectArrayList<Billboard> billboards = new ObjectArrayList<>();
+	private final ReferenceArrayList<RenderType> layers = new ReferenceArrayList<>();
+	private final Vector3f normal = new Vector3f();
+	private int size;
+	@Nullable
+	private MultiBufferSource target;
+
+	private boolean timing;
+	private long renderNanos;
+
+	private int lastCount;
+	private int lastLayerCount;
+	private long lastFrameNanos;
+
+	/**
+	 * Opens the batch for {@code target}.
+	 *
+	 * @param timing whether to time the Fireflies rendered this frame, for the debug screen.
+	 */
+	public void begin(@Nullable MultiBufferSource target, boolean timing) {
+		this.size = 0;
+		this.target = target;
+		this.timing = timing;
+		this.renderNanos = 0L;
+	}
+
+	public boolean isTiming() {
+		return this.timing;
+	}
+
+	/**
+	 * Counts time spent rendering Fireflies outside of {@link #end} towards this frame.
+	 */
+	public void addRenderNanos(long nanos) {
+		this.renderNanos += nanos;
+	}
+
+	public boolean isCollectingFor(@NotNull MultiBufferSource buffer) {
+		return this.target == buffer;
+	}
+
+	public void add(@NotNull PoseStack.Pose pose, @NotNull RenderType bodyLayer, @NotNull RenderType glowLayer, float glow, int overlay, int light) {
+		Billboard billboard;
+		if (this.size < this.billboards.size()) {
+			billboard = this.billboards.get(this.size);
+		} else {
+			billboard = new Billboard();
+			this.billboards.add(billboard);
+		}
+		this.size += 1;
+
+		billboard.pose.set(pose.pose());
+		pose.transformNormal(0F, 1F, 0F, this.normal);
+		billboard.normalX = this.normal.x;
+		billboard.normalY = this.normal.y;
+		billboard.normalZ = this.normal.z;
+		billboard.bodyLayer = bodyLayer;
+		billboard.glowLayer = glowLayer;
+		billboard.glow = glow;
+		billboard.overlay = overlay;
+		billboard.light = light;
+	}
+
+	/**
+	 * Draws every collected billboard, one layer at a time, and closes the batch.
+	 */
+	public void end() {
+		MultiBufferSource buffer = this.target;
+		this.target = null;
+		if (buffer == null) return;
+
+		long startTime = this.timing ? System.nanoTime() : 0L;
+		this.layers.clear();
+		for (int i = 0; i < this.size; i++) {
+			Billboard billboard = this.billboards.get(i);
+			if (!this.layers.contains(billboard.bodyLayer)) this.layers.add(billboard.bodyLayer);
+		}
+		int bodyLayerCount = this.layers.size();
+		for (int i = 0; i < this.size; i++) {
+			Billboard billboard = this.billboards.get(i);
+			if (!this.layers.contains(billboard.glowLayer)) this.layers.add(billboard.glowLayer);
+		}
+
+		for (int layerIndex = 0, layerCount = this.layers.size(); layerIndex < layerCount; layerIndex++) {
+			RenderType layer = this.layers.get(layerIndex);
+			boolean body = layerIndex < bodyLayerCount;
+			VertexConsumer vertexConsumer = buffer.getBuffer(layer);
+			for (int i = 0; i < this.size; i++) {
+				Billboard billboard = this.billboards.get(i);
+				if (body && billboard.bodyLayer == layer) {
+					FireflyRenderer.addQuad(vertexConsumer, billboard.pose, billboard.normalX, billboard.normalY, billboard.normalZ, 1F, billboard.overlay, billboard.light);
+				} else if (!body && billboard.glowLayer == layer) {
+					FireflyRenderer.addQuad(vertexConsumer, billboard.pose, billboard.normalX, billboard.normalY, billboard.normalZ, billboard.glow, billboard.overlay, billboard.light);
+				}
+			}
+		}
+
+		this.lastCount = this.size;
+		this.lastLayerCount = this.layers.size();
+		this.lastFrameNanos = this.timing ? this.renderNanos + (System.nanoTime() - startTime) : 0L;
+		this.size = 0;
+	}
+
+	/**
+	 * @return how many Fireflies were drawn by the last batch.
+	 */
+	public int getLastCount() {
+		return this.lastCount;
+	}
+
+	/**
+	 * @return how many layers the last batch wrote to.
+	 */
+	public int getLastLayerCount() {
+		return this.lastLayerCount;
+	}
+
+	/**
+	 * @return how long rendering and drawing the last batch's Fireflies took, in nanoseconds, or {@code 0} if it wasn't timed.
+	 */
+	public long getLastFrameNanos() {
+		return this.lastFrameNanos;
+	}
+
+	private static final class Billboard {
+		private final Matrix4f pose = new Matrix4f();
+		private float normalX;
+		private float normalY;
+		private float normalZ;
+		private RenderType bodyLayer;
+		private RenderType glowLayer;
+		private float glow;
+		private int overlay;
+		private int light;
+	}
+}
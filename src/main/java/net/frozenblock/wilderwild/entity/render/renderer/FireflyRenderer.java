@@ -23,7 +23,6 @@ import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
 import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
-import java.util.function.Supplier;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.entity.Firefly;
 import net.frozenblock.wilderwild.entity.variant.FireflyColor;
@@ -33,11 +32,13 @@ import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.texture.OverlayTexture;
-import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
 import org.joml.Quaternionf;
+import org.joml.Vector3f;
 
 public class FireflyRenderer extends EntityRenderer<Firefly> {
 	//CREDIT TO magistermaks ON GITHUB!!
@@ -53,6 +54,15 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 	private static final RenderType NECTAR_FLAP_LAYER = RenderType.entityTranslucent(WWConstants.id("textures/entity/firefly/nectar_wings_down.png"));
 	private static final RenderType NECTAR_OVERLAY = RenderType.entityTranslucentEmissive(WWConstants.id("textures/entity/firefly/nectar_overlay.png"), true);
 	private static final float Y_OFFSET = 0.155F;
+	private static final double FULL_DETAIL_DISTANCE_SQR = 32D * 32D;
+	/**
+	 * The average glow of a Firefly that pulses, used for distant ones so they're as bright as they are up close.
+	 */
+	private static final float DISTANT_GLOW = 1F / Mth.PI;
+	/**
+	 * The average glow of a Firefly that flickers, whose glow wraps around as a sawtooth.
+	 */
+	private static final float DISTANT_FLICKER_GLOW = 0.5F;
 	private static final Quaternionf QUAT_180 = Axis.YP.rotationDegrees(180F);
 
 	public FireflyRenderer(EntityRendererProvider.Context ctx) {
@@ -60,6 +70,24 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 	}
 
 	public static void renderFirefly(@NotNull PoseStack poseStack, @NotNull MultiBufferSource buffer, int packedLight, boolean nectar, int overlay, int age, float tickDelta, boolean flickers, FireflyColor color, float scale, float xOffset, float yOffset, float zOffset, Quaternionf rotation) {
+		renderFirefly(poseStack, buffer, null, packedLight, nectar, overlay, age, tickDelta, flickers, color, scale, xOffset, yOffset, zOffset, rotation);
+	}
+
+	/**
+	 * Renders a Firefly, adding it to {@code batch} instead of drawing it if the batch is collecting for {@code buffer}.
+	 */
+	public static void renderFirefly(@NotNull PoseStack poseStack, @NotNull MultiBufferSource buffer, @Nullable FireflyBillboardBatch batch, int packedLight, boolean nectar, int overlay, int age, float tickDelta, boolean flickers, FireflyColor color, float scale, float xOffset, float yOffset, float zOffset, Quaternionf rotation) {
+		renderFirefly(poseStack, buffer, batch, packedLight, nectar, overlay, age, getGlow(age, tickDelta, flickers), color, scale, xOffset, yOffset, zOffset, rotation);
+	}
+
+	public static float getGlow(int age, float tickDelta, boolean flickers) {
+		return (float) (flickers ?
+			(((age + tickDelta) * Mth.PI) * -4F) / 255F :
+			Math.max(((Math.cos(((age + tickDelta) * Mth.PI) * 0.05F))), 0F)
+		);
+	}
+
+	private static void renderFirefly(@NotNull PoseStack poseStack, @NotNull MultiBufferSource buffer, @Nullable FireflyBillboardBatch batch, int packedLight, boolean nectar, int overlay, int age, float glow, FireflyColor color, float scale, float xOffset, float yOffset, float zOffset, Quaternionf rotation) {
 		poseStack.pushPose();
 		poseStack.scale(scale, scale, scale);
 		poseStack.translate(xOffset, yOffset, zOffset);
@@ -67,80 +95,54 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 		poseStack.mulPose(QUAT_180);
 
 		PoseStack.Pose pose = poseStack.last();
-		Supplier<RenderType> nectarLayer = () -> age % 2 == 0 ? NECTAR_LAYER : NECTAR_FLAP_LAYER;
-		VertexConsumer vertexConsumer = buffer.getBuffer(nectar ? nectarLayer.get() : LAYER);
-
-		vertexConsumer
-			.addVertex(pose, -0.5F, -0.5F, 0F)
-			.setColor(1F, 1F, 1F, 1F)
-			.setUv(0, 1)
-			.setOverlay(overlay)
-			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
-		vertexConsumer
-			.addVertex(pose, 0.5F, -0.5F, 0F)
-			.setColor(1F, 1F, 1F, 1F)
-			.setUv(1, 1)
-			.setOverlay(overlay)
-			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
-		vertexConsumer
-			.addVertex(pose, 0.5F, 0.5F, 0F)
-			.setColor(1F, 1F, 1F, 1F)
-			.setUv(1, 0)
-			.setOverlay(overlay)
-			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
-		vertexConsumer
-			.addVertex(pose, -0.5F, 0.5F, 0F)
-			.setColor(1F, 1F, 1F, 1F)
-			.setUv(0, 0)
-			.setOverlay(overlay)
-			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
-
+		RenderType bodyLayer = nectar ? (age % 2 == 0 ? NECTAR_LAYER : NECTAR_FLAP_LAYER) : LAYER;
+		RenderType glowLayer;
 		if (color != null && LAYERS.get(color.key()) != null) {
-			RenderType layer = nectar ? NECTAR_OVERLAY : LAYERS.get(color.key());
-			vertexConsumer = buffer.getBuffer(layer);
+			glowLayer = nectar ? NECTAR_OVERLAY : LAYERS.get(color.key());
 		} else {
-			vertexConsumer = buffer.getBuffer(LAYERS.get(FireflyColor.ON.key()));
+			glowLayer = LAYERS.get(FireflyColor.ON.key());
 		}
 
-		float calcColor = (float) (flickers ?
-			(((age + tickDelta) * Mth.PI) * -4F) / 255F :
-			Math.max(((Math.cos(((age + tickDelta) * Mth.PI) * 0.05F))), 0F)
-		);
+		if (batch != null && batch.isCollectingFor(buffer)) {
+			batch.add(pose, bodyLayer, glowLayer, glow, overlay, packedLight);
+		} else {
+			Vector3f normal = pose.transformNormal(0F, 1F, 0F, new Vector3f());
+			addQuad(buffer.getBuffer(bodyLayer), pose.pose(), normal.x, normal.y, normal.z, 1F, overlay, packedLight);
+			addQuad(buffer.getBuffer(glowLayer), pose.pose(), normal.x, normal.y, normal.z, glow, overlay, packedLight);
+		}
+
+		poseStack.popPose();
+	}
 
+	static void addQuad(@NotNull VertexConsumer vertexConsumer, @NotNull Matrix4f pose, float normalX, float normalY, float normalZ, float color, int overlay, int packedLight) {
 		vertexConsumer
 			.addVertex(pose, -0.5F, -0.5F, 0F)
-			.setColor(calcColor, calcColor, calcColor, calcColor)
+			.setColor(color, color, color, color)
 			.setUv(0, 1)
 			.setOverlay(overlay)
 			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
+			.setNormal(normalX, normalY, normalZ);
 		vertexConsumer
 			.addVertex(pose, 0.5F, -0.5F, 0F)
-			.setColor(calcColor, calcColor, calcColor, calcColor)
+			.setColor(color, color, color, color)
 			.setUv(1, 1)
 			.setOverlay(overlay)
 			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
+			.setNormal(normalX, normalY, normalZ);
 		vertexConsumer
 			.addVertex(pose, 0.5F, 0.5F, 0F)
-			.setColor(calcColor, calcColor, calcColor, calcColor)
+			.setColor(color, color, color, color)
 			.setUv(1, 0)
 			.setOverlay(overlay)
 			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
+			.setNormal(normalX, normalY, normalZ);
 		vertexConsumer
 			.addVertex(pose, -0.5F, 0.5F, 0F)
-			.setColor(calcColor, calcColor, calcColor, calcColor)
+			.setColor(color, color, color, color)
 			.setUv(0, 0)
 			.setOverlay(overlay)
 			.setLight(packedLight)
-			.setNormal(pose, 0F, 1F, 0F);
-
-		poseStack.popPose();
+			.setNormal(normalX, normalY, normalZ);
 	}
 
 	public static int getOverlay(@NotNull Firefly entity, float whiteOverlayProgress) {
@@ -149,12 +151,9 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 
 	@Override
 	public void render(@NotNull Firefly entity, float yaw, float tickDelta, @NotNull PoseStack poseStack, @NotNull MultiBufferSource buffer, int light) {
-		boolean nectar = false;
-
-		Component component = entity.getCustomName();
-		if (component != null) {
-			nectar = component.getString().toLowerCase().contains("nectar");
-		}
+		FireflyBillboardBatch batch = FireflyBillboardBatch.WORLD;
+		long startTime = batch.isTiming() ? System.nanoTime() : 0L;
+		boolean nectar = entity.isNectar();
 
 		float prevScale = entity.getPrevAnimScale();
 		float scale = prevScale + (tickDelta * (entity.getAnimScale() - prevScale));
@@ -168,12 +167,20 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 		poseStack.pushPose();
 		float f = entity.getScale();
 		poseStack.scale(f, f, f);
-		renderFirefly(poseStack, buffer, light, nectar, overlay, age, tickDelta, flickers, entity.getColor(), scale, 0F, Y_OFFSET, 0F, this.entityRenderDispatcher.cameraOrientation());
+		// Distant Fireflies glow steadily at their average brightness instead of animating their glow.
+		float glow = this.entityRenderDispatcher.distanceToSqr(entity) > FULL_DETAIL_DISTANCE_SQR
+			? (flickers ? DISTANT_FLICKER_GLOW : DISTANT_GLOW)
+			: getGlow(age, tickDelta, flickers);
+		renderFirefly(poseStack, buffer, batch, light, nectar, overlay, age, glow, entity.getColor(), scale, 0F, Y_OFFSET, 0F, this.entityRenderDispatcher.cameraOrientation());
 
 		if (this.shouldShowName(entity)) {
 			this.renderNameTag(entity, entity.getDisplayName(), poseStack, buffer, light, tickDelta);
 		}
 		poseStack.popPose();
+
+		if (batch.isTiming()) {
+			batch.addRenderNanos(System.nanoTime() - startTime);
+		}
 	}
 
 	@Override
@@ -51,7 +51,7 @@ public class FireflyBottle extends Item {
 	}
 
 	public static boolean isNectar(@NotNull ItemStack stack) {
-		return stack.has(DataComponents.CUSTOM_NAME) && stack.getHoverName().getString().toLowerCase().contains("nectar");
+		return stack.has(DataComponents.CUSTOM_NAME) && Firefly.isNectarName(stack.getHoverName().getString());
 	}
 
 	@NotNull
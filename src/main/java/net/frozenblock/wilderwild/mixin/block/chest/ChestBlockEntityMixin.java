@@ -19,8 +19,8 @@
 package net.frozenblock.wilderwild.mixin.block.chest;
 
 import net.frozenblock.wilderwild.block.entity.impl.ChestBlockEntityInterface;
-import net.frozenblock.wilderwild.entity.ChestBubbleTicker;
-import net.frozenblock.wilderwild.registry.WWEntityTypes;
+import net.frozenblock.wilderwild.block.impl.ticker.BlockTickerManager;
+import net.frozenblock.wilderwild.block.impl.ticker.ChestBubbles;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
@@ -102,13 +102,14 @@ public class ChestBlockEntityMixin implements ChestBlockEntityInterface {
 	@Unique
 	@Override
 	public void wilderWild$bubble(Level level, BlockPos pos, BlockState state) {
-		if (level != null) {
+		if (level instanceof ServerLevel serverLevel) {
 			if (this.wilderWild$canBubble && state.hasProperty(BlockStateProperties.WATERLOGGED) && state.getValue(BlockStateProperties.WATERLOGGED)) {
-				ChestBubbleTicker.createAndSpawn(WWEntityTypes.CHEST_BUBBLER, level, pos);
+				BlockTickerManager blockTickerManager = BlockTickerManager.get(serverLevel);
+				blockTickerManager.addTicker(new ChestBubbles(pos.immutable()));
 				this.wilderWild$canBubble = false;
 				ChestBlockEntity otherChest = wilderWild$getOtherEntity(level, pos, state);
 				if (otherChest != null) {
-					ChestBubbleTicker.createAndSpawn(WWEntityTypes.CHEST_BUBBLER, level, otherChest.getBlockPos());
+					blockTickerManager.addTicker(new ChestBubbles(otherChest.getBlockPos()));
 					((ChestBlockEntityInterface) otherChest).wilderWild$setCanBubble(false);
 				}
 			}
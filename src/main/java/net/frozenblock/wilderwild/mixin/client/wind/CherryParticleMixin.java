@@ -25,9 +25,9 @@ import com.llamalad7.mixinextras.sugar.Share;
 import com.llamalad7.mixinextras.sugar.ref.LocalRef;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.CherryParticle;
 import net.minecraft.client.particle.TextureSheetParticle;
@@ -58,7 +58,7 @@ public abstract class CherryParticleMixin extends TextureSheetParticle {
 	) {
 		wind.set(Vec3.ZERO);
 		if (WWClientWindManager.shouldUseWind()) {
-			Vec3 currentWind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 2.5D, 7D, 5D)
+			Vec3 currentWind = WindFieldCache.getWindMovement(this.level, this.x, this.y, this.z, 2.5D, 7D, 5D)
 				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
 			wind.set(currentWind);
 			return currentWind.x;
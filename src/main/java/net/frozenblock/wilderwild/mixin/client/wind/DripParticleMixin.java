@@ -20,9 +20,9 @@ package net.frozenblock.wilderwild.mixin.client.wind;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.impl.WilderDripSuspendedParticleInterface;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.DripParticle;
 import net.minecraft.client.particle.Particle;
@@ -77,7 +77,7 @@ public abstract class DripParticleMixin extends TextureSheetParticle implements
 	@Inject(method = "tick", at = @At("HEAD"))
 	public void wilderWild$tick(CallbackInfo info) {
 		if (this.wilderWild$usesWind()) {
-			Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1.5D, 7D, 5D)
+			Vec3 wind = WindFieldCache.getWindMovement(this.level, this.x, this.y, this.z, 1.5D, 7D, 5D)
 				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
 			this.xd += wind.x * 0.001D;
 			this.yd += wind.y * 0.00005D;
@@ -25,6 +25,7 @@ import net.fabricmc.api.Environment;
 import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.SpriteSet;
 import net.minecraft.world.phys.Vec3;
@@ -54,7 +55,7 @@ public abstract class DustMoteParticleMixin extends WeatherParticle {
 		@Share("wilderWild$windZ")LocalDoubleRef windZ
 	) {
 		if (WWClientWindManager.shouldUseWind()) {
-			Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
+			Vec3 wind = WindFieldCache.getWindMovement(this.level, this.x, this.y, this.z, 1D, 7D, 5D)
 				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
 			windZ.set(wind.z);
 			return this.xd + (wind.x * 0.005D);
@@ -20,19 +20,17 @@ package net.frozenblock.wilderwild.mixin.client.wind.particlerain;
 
 import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
 import com.mojang.blaze3d.vertex.VertexConsumer;
-import java.util.function.Consumer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.wind.api.ClientWindManager;
+import net.frozenblock.wilderwild.particle.impl.OrientedParticleQuads;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
 import net.minecraft.client.Camera;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.SpriteSet;
 import net.minecraft.util.Mth;
-import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Quaternionf;
-import org.joml.Vector3f;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.Unique;
@@ -49,8 +47,6 @@ import pigcart.particlerain.particle.WeatherParticle;
 @Environment(EnvType.CLIENT)
 @Mixin(RainDropParticle.class)
 public abstract class RainDropParticleMixin extends WeatherParticle {
-	@Unique
-	private static final Vector3f WILDER_WILD$NORMALIZED_QUAT_VECTOR = new Vector3f(0.5F, 0.5F, 0.5F).normalize();
 	@Unique
 	private float wilderWild$prevYRot;
 	@Unique
@@ -172,25 +168,26 @@ public abstract class RainDropParticleMixin extends WeatherParticle {
 		info.cancel();
 		float yRot = Mth.lerp(partialTicks, this.wilderWild$prevYRot, this.wilderWild$yRot) * Mth.DEG_TO_RAD;
 		float xRot = Mth.lerp(partialTicks, this.wilderWild$prevXRot, this.wilderWild$xRot) * -Mth.DEG_TO_RAD;
-		float cameraRotWhileVertical = ((-renderInfo.getYRot()) * (1F - Mth.lerp(partialTicks, this.wilderWild$prevRotMultiplier, this.wilderWild$rotMultiplier))) * Mth.DEG_TO_RAD;
-
-		float x = (float)(Mth.lerp(partialTicks, this.xo, this.x));
-		float y = (float)(Mth.lerp(partialTicks, this.yo, this.y));
-		float z = (float)(Mth.lerp(partialTicks, this.zo, this.z));
-		Vec3 relativePos = new Vec3(x, y, z).subtract(renderInfo.getPosition());
-		relativePos = new Vec3(
-			relativePos.x > 0 ? 1D : -1D,
-			relativePos.y > 0 ? 1D : -1D,
-			relativePos.z > 0 ? 1D : -1D
-		);
-		Vec3 particleMovement = new Vec3(this.xd, 0D, this.zd).normalize();
-		float xDifference = (float) Math.abs(particleMovement.x + relativePos.z);
+		float rotMultiplier = Mth.lerp(partialTicks, this.wilderWild$prevRotMultiplier, this.wilderWild$rotMultiplier);
+		float cameraRotWhileVertical = ((-OrientedParticleQuads.getCameraYRot()) * (1F - rotMultiplier)) * Mth.DEG_TO_RAD;
+
+		float x = OrientedParticleQuads.relativeX(partialTicks, this.xo, this.x);
+		float y = OrientedParticleQuads.relativeY(partialTicks, this.yo, this.y);
+		float z = OrientedParticleQuads.relativeZ(partialTicks, this.zo, this.z);
+		double relativeX = x > 0 ? 1D : -1D;
+		double relativeZ = z > 0 ? 1D : -1D;
+
+		double movementLength = Math.sqrt(this.xd * this.xd + this.zd * this.zd);
+		boolean hasMovement = movementLength >= 1.0E-5F;
+		double movementX = hasMovement ? this.xd / movementLength : 0D;
+		double movementZ = hasMovement ? this.zd / movementLength : 0D;
+		float xDifference = (float) Math.abs(movementX + relativeZ);
 		xDifference = xDifference >= 1F ? 0 : (Math.abs(xDifference - 1F));
 		boolean shouldDoubleClampXRot = xDifference == 0D;
-		float cameraXRot = renderInfo.getXRot();
+		float cameraXRot = OrientedParticleQuads.getCameraXRot();
 		xDifference = Mth.sin((-cameraXRot * Mth.PI) / 180F) * Mth.PI * xDifference;
 
-		float zDifference = (float) Math.abs(particleMovement.z - relativePos.x);
+		float zDifference = (float) Math.abs(movementZ - relativeX);
 		zDifference = zDifference >= 1F ? 0 : (Math.abs(zDifference - 1F));
 		shouldDoubleClampXRot = shouldDoubleClampXRot || zDifference == 0D;
 		zDifference = Mth.sin((-cameraXRot * Mth.PI) / 180F) * Mth.PI * zDifference;
@@ -199,59 +196,39 @@ public abstract class RainDropParticleMixin extends WeatherParticle {
 			cameraXRot = Math.clamp(cameraXRot * 1.5F, -90, 90);
 		}
 
-		float cameraRotWhileSideways = ((90F + cameraXRot) * (Mth.lerp(partialTicks, this.wilderWild$prevRotMultiplier, this.wilderWild$rotMultiplier))) * Mth.DEG_TO_RAD + xDifference + zDifference;
-		this.wilderWild$renderParticle(buffer, renderInfo, partialTicks, false, transforms -> transforms.rotateY(yRot)
+		float cameraRotWhileSideways = ((90F + cameraXRot) * rotMultiplier) * Mth.DEG_TO_RAD + xDifference + zDifference;
+		float quadSize = this.getQuadSize(partialTicks);
+		int light = this.getLightColor(partialTicks);
+
+		Quaternionf rotation = OrientedParticleQuads.rotation()
+			.rotateY(yRot)
 			.rotateX(-xRot)
 			.rotateY(cameraRotWhileSideways)
-			.rotateY(cameraRotWhileVertical)
-		);
-		this.wilderWild$renderParticle(buffer, renderInfo, partialTicks, true, transforms -> transforms.rotateY((float) -Math.PI + yRot)
+			.rotateY(cameraRotWhileVertical);
+		this.wilderWild$renderParticle(buffer, rotation, x, y, z, quadSize, light, false);
+
+		rotation.identity()
+			.rotateY((float) -Math.PI + yRot)
 			.rotateX(xRot)
 			.rotateY(cameraRotWhileSideways)
-			.rotateY(cameraRotWhileVertical));
+			.rotateY(cameraRotWhileVertical);
+		this.wilderWild$renderParticle(buffer, rotation, x, y, z, quadSize, light, true);
 	}
 
 	@Unique
-	private void wilderWild$renderParticle(VertexConsumer buffer, @NotNull Camera renderInfo, float partialTicks, boolean flipped, @NotNull Consumer<Quaternionf> quaternionConsumer) {
-		Vec3 vec3 = renderInfo.getPosition();
-		float f = (float)(Mth.lerp(partialTicks, this.xo, this.x) - vec3.x());
-		float g = (float)(Mth.lerp(partialTicks, this.yo, this.y) - vec3.y());
-		float h = (float)(Mth.lerp(partialTicks, this.zo, this.z) - vec3.z());
-		Quaternionf quaternionf = new Quaternionf().setAngleAxis(0F, WILDER_WILD$NORMALIZED_QUAT_VECTOR.x(), WILDER_WILD$NORMALIZED_QUAT_VECTOR.y(), WILDER_WILD$NORMALIZED_QUAT_VECTOR.z());
-		quaternionConsumer.accept(quaternionf);
-		Vector3f[] vector3fs = new Vector3f[]{
-			new Vector3f(-1F, -1F, 0F), new Vector3f(-1F, 1F, 0F), new Vector3f(1F, 1F, 0F), new Vector3f(1F, -1F, 0F)
-		};
-		float i = this.getQuadSize(partialTicks);
-
-		for(int j = 0; j < 4; ++j) {
-			Vector3f vector3f2 = vector3fs[j];
-			vector3f2.rotate(quaternionf);
-			vector3f2.mul(i);
-			vector3f2.add(f, g, h);
-		}
-
-		float k = !flipped ? this.getU0() : this.getU1();
-		float l = !flipped ? this.getU1() : this.getU0();
-		float m = this.getV0();
-		float n = this.getV1();
-		int light = this.getLightColor(partialTicks);
-		buffer.addVertex(vector3fs[0].x(), vector3fs[0].y(), vector3fs[0].z())
-			.setUv(l, n)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
-		buffer.addVertex(vector3fs[1].x(), vector3fs[1].y(), vector3fs[1].z())
-			.setUv(l, m)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
-		buffer.addVertex(vector3fs[2].x(), vector3fs[2].y(), vector3fs[2].z())
-			.setUv(k, m)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
-		buffer.addVertex(vector3fs[3].x(), vector3fs[3].y(), vector3fs[3].z())
-			.setUv(k, n)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
+	private void wilderWild$renderParticle(VertexConsumer buffer, @NotNull Quaternionf rotation, float x, float y, float z, float quadSize, int light, boolean flipped) {
+		OrientedParticleQuads.renderQuad(
+			buffer,
+			rotation,
+			x, y, z,
+			quadSize,
+			!flipped ? this.getU0() : this.getU1(),
+			!flipped ? this.getU1() : this.getU0(),
+			this.getV0(),
+			this.getV1(),
+			this.rCol, this.gCol, this.bCol, this.alpha,
+			light
+		);
 	}
 
 }
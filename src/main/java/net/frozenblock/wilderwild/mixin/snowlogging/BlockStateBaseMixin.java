@@ -24,7 +24,10 @@ import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import java.util.ArrayList;
 import java.util.List;
+import net.frozenblock.wilderwild.block.impl.SnowloggableStateInterface;
+import net.frozenblock.wilderwild.block.impl.SnowloggedShapeCache;
 import net.frozenblock.wilderwild.block.impl.SnowloggingUtils;
+import net.frozenblock.wilderwild.config.WWBlockConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
@@ -48,21 +51,49 @@ import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
-import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(BlockBehaviour.BlockStateBase.class)
-public abstract class BlockStateBaseMixin {
+public abstract class BlockStateBaseMixin implements SnowloggableStateInterface {
+
+	@Unique
+	private int wilderWild$snowLayers = -1;
+	@Unique
+	@Nullable
+	private SnowloggedShapeCache wilderWild$shapeCache;
 
 	@Shadow
 	protected abstract BlockState asState();
 
+	@Inject(method = "<init>", at = @At("TAIL"))
+	public void wilderWild$cacheSnowLayers(CallbackInfo info) {
+		this.wilderWild$snowLayers = SnowloggingUtils.computeSnowLayers(this.asState());
+	}
+
+	@Unique
+	@Override
+	public int wilderWild$getSnowLayers() {
+		return this.wilderWild$snowLayers;
+	}
+
+	@Unique
+	private VoxelShape wilderWild$mergeSnowShape(int kind, VoxelShape shape, VoxelShape snowShape) {
+		SnowloggedShapeCache shapeCache = this.wilderWild$shapeCache;
+		if (shapeCache == null) {
+			shapeCache = new SnowloggedShapeCache();
+			this.wilderWild$shapeCache = shapeCache;
+		}
+		return shapeCache.merge(kind, shape, snowShape);
+	}
+
 	@ModifyReturnValue(
 		method = "getCollisionShape(Lnet/minecraft/world/level/BlockGetter;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/phys/shapes/CollisionContext;)Lnet/minecraft/world/phys/shapes/VoxelShape;",
 		at = @At("RETURN")
@@ -70,7 +101,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getCollisionShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getCollisionShape(level, pos, context));
+			return this.wilderWild$mergeSnowShape(SnowloggedShapeCache.COLLISION, original, SnowloggingUtils.getSnowEquivalent(blockState).getCollisionShape(level, pos, context));
 		}
 		return original;
 	}
@@ -91,7 +122,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getVisualShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getVisualShape(level, pos, context));
+			return this.wilderWild$mergeSnowShape(SnowloggedShapeCache.VISUAL, original, SnowloggingUtils.getSnowEquivalent(blockState).getVisualShape(level, pos, context));
 		}
 		return original;
 	}
@@ -100,7 +131,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getInteractionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getInteractionShape(level, pos));
+			return this.wilderWild$mergeSnowShape(SnowloggedShapeCache.INTERACTION, original, SnowloggingUtils.getSnowEquivalent(blockState).getInteractionShape(level, pos));
 		}
 		return original;
 	}
@@ -109,7 +140,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getBlockSupportShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getBlockSupportShape(level, pos));
+			return this.wilderWild$mergeSnowShape(SnowloggedShapeCache.BLOCK_SUPPORT, original, SnowloggingUtils.getSnowEquivalent(blockState).getBlockSupportShape(level, pos));
 		}
 		return original;
 	}
@@ -118,7 +149,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getOcclusionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getOcclusionShape(level, pos));
+			return this.wilderWild$mergeSnowShape(SnowloggedShapeCache.OCCLUSION, original, SnowloggingUtils.getSnowEquivalent(blockState).getOcclusionShape(level, pos));
 		}
 		return original;
 	}
@@ -248,7 +279,7 @@ public abstract class BlockStateBaseMixin {
 		)
 	)
 	public boolean wilderWild$useShapeForLightOcclusion(Block instance, BlockState blockState, Operation<Boolean> original) {
-		return original.call(instance, blockState) || SnowloggingUtils.isSnowlogged(blockState);
+		return original.call(instance, blockState) || (WWBlockConfig.SNOWLOGGING && SnowloggingUtils.computeSnowLayers(blockState) > 0);
 	}
 
 	@ModifyExpressionValue(
@@ -259,8 +290,7 @@ public abstract class BlockStateBaseMixin {
 		)
 	)
 	public boolean wilderWild$canOcclude(boolean original) {
-		BlockState blockState = this.asState();
-		return original || SnowloggingUtils.isSnowlogged(blockState);
+		return original || (WWBlockConfig.SNOWLOGGING && SnowloggingUtils.computeSnowLayers(this.asState()) > 0);
 	}
 
 	@WrapOperation(
@@ -18,18 +18,23 @@
 
 package net.frozenblock.wilderwild.networking;
 
+import io.netty.buffer.Unpooled;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.frozenblock.lib.math.api.AdvancedMath;
+import net.frozenblock.wilderwild.block.StoneChestBlock;
 import net.frozenblock.wilderwild.block.entity.StoneChestBlockEntity;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
 import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
 import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
 import net.frozenblock.wilderwild.networking.packet.WWScorchingFirePlacePacket;
 import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
+import net.frozenblock.wilderwild.networking.packet.WWTermiteEffectsPacket;
 import net.frozenblock.wilderwild.networking.packet.WWWindPacket;
+import net.frozenblock.wilderwild.registry.WWParticleTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
@@ -38,9 +43,12 @@ import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.client.particle.ParticleEngine;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.BlockParticleOption;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.player.Player;
@@ -59,6 +67,7 @@ public final class WWClientNetworking {
 		receiveLightningStrikePacket();
 		receiveStoneChestLidPacket();
 		receiveScorchingFirePlacePacket();
+		receiveTermiteEffectsPacket();
 	}
 
 	public static void receiveWindExtensionSyncPacket() {
@@ -107,12 +116,15 @@ public final class WWClientNetworking {
 	public static void receiveStoneChestLidPacket() {
 		ClientPlayNetworking.registerGlobalReceiver(WWStoneChestLidPacket.PACKET_TYPE, (packet, ctx) -> {
 			ClientLevel clientLevel = ctx.client().level;
-			if (clientLevel.getBlockEntity(packet.pos()) instanceof StoneChestBlockEntity stoneChestBlockEntity) {
+			BlockPos pos = packet.pos();
+			if (clientLevel.getBlockEntity(pos) instanceof StoneChestBlockEntity stoneChestBlockEntity) {
 				stoneChestBlockEntity.openProgress = packet.openProgress();
 				stoneChestBlockEntity.highestLidPoint = packet.highestLidPoint();
 				stoneChestBlockEntity.cooldownTicks = packet.cooldownTicks();
 				stoneChestBlockEntity.stillLidTicks = packet.stillLidTicks();
 				stoneChestBlockEntity.closing = packet.closing();
+				stoneChestBlockEntity.wakeUp();
+				stoneChestBlockEntity.syncLidValuesAndUpdate(StoneChestBlock.getOtherChest(clientLevel, pos, stoneChestBlockEntity.getBlockState()));
 			}
 		});
 	}
@@ -145,6 +157,56 @@ public final class WWClientNetworking {
 		});
 	}
 
+	public static void receiveTermiteEffectsPacket() {
+		ClientPlayNetworking.registerGlobalReceiver(WWTermiteEffectsPacket.PACKET_TYPE, (packet, ctx) -> {
+			ClientLevel clientLevel = ctx.client().level;
+			RandomSource random = clientLevel.random;
+			FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(packet.effects()));
+			int minX = SectionPos.sectionToBlockCoord(packet.chunkX());
+			int minZ = SectionPos.sectionToBlockCoord(packet.chunkZ());
+			for (int i = 0; i < packet.effectCount(); i++) {
+				WWTermiteEffectsPacket.Effect effect = WWTermiteEffectsPacket.Effect.byId(buf.readUnsignedByte());
+				if (effect == null) return;
+				int packedXZ = buf.readUnsignedByte();
+				double x = minX + (packedXZ >> 4) + 0.5D;
+				double y = buf.readShort() + 0.5D;
+				double z = minZ + (packedXZ & 15) + 0.5D;
+				switch (effect) {
+					case TERMITE -> termiteParticles(clientLevel, WWParticleTypes.TERMITE, x, y, z, buf.readUnsignedByte(), 0D, 0D, random);
+					case GNAW, EAT -> {
+						BlockState blockState = Block.stateById(buf.readVarInt());
+						termiteParticles(clientLevel, new BlockParticleOption(ParticleTypes.BLOCK, blockState), x, y, z, buf.readUnsignedByte(), 0.3D, 0.05D, random);
+					}
+					case MOUND_ENTER -> termiteSound(clientLevel, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, x, y, z, 1F);
+					case MOUND_EXIT -> termiteSound(clientLevel, WWSounds.BLOCK_TERMITE_MOUND_EXIT, SoundSource.NEUTRAL, x, y, z, 1F);
+					case LOG_HOLLOWED -> termiteSound(clientLevel, WWSounds.LOG_HOLLOWED, SoundSource.BLOCKS, x, y, z, 0.95F + (random.nextFloat() * 0.2F));
+					case STEM_HOLLOWED -> termiteSound(clientLevel, WWSounds.STEM_HOLLOWED, SoundSource.BLOCKS, x, y, z, 0.95F + (random.nextFloat() * 0.2F));
+					case GNAW_FINISH -> termiteSound(clientLevel, WWSounds.BLOCK_TERMITE_MOUND_TERMITE_GNAW_FINISH, SoundSource.BLOCKS, x, y, z, 0.9F + (random.nextFloat() * 0.25F));
+				}
+			}
+		});
+	}
+
+	private static void termiteParticles(
+		@NotNull ClientLevel level, @NotNull ParticleOptions particleOptions, double x, double y, double z, int count, double spread, double speed, @NotNull RandomSource random
+	) {
+		for (int i = 0; i < count; i++) {
+			level.addParticle(
+				particleOptions,
+				x + random.nextGaussian() * spread,
+				y + random.nextGaussian() * spread,
+				z + random.nextGaussian() * spread,
+				random.nextGaussian() * speed,
+				random.nextGaussian() * speed,
+				random.nextGaussian() * speed
+			);
+		}
+	}
+
+	private static void termiteSound(@NotNull ClientLevel level, @NotNull SoundEvent sound, @NotNull SoundSource source, double x, double y, double z, float pitch) {
+		level.playLocalSound(x, y, z, sound, source, TermiteManager.BLOCK_SOUND_VOLUME, pitch, false);
+	}
+
 	private static void lightningBlockParticles(int tickCount, double x, double y, double z, @NotNull BlockState blockState, @NotNull RandomSource random, @NotNull ParticleEngine particleEngine) {
 		if (blockState.is(WWBlockTags.NO_LIGHTNING_BLOCK_PARTICLES)) {
 			return;
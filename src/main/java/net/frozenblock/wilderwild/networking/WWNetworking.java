@@ -23,6 +23,7 @@ import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
 import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
 import net.frozenblock.wilderwild.networking.packet.WWScorchingFirePlacePacket;
 import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
+import net.frozenblock.wilderwild.networking.packet.WWTermiteEffectsPacket;
 import net.frozenblock.wilderwild.networking.packet.WWWindPacket;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 
@@ -35,5 +36,6 @@ public final class WWNetworking {
 		registry.register(WWLightningStrikePacket.PACKET_TYPE, WWLightningStrikePacket.CODEC);
 		registry.register(WWStoneChestLidPacket.PACKET_TYPE, WWStoneChestLidPacket.CODEC);
 		registry.register(WWScorchingFirePlacePacket.PACKET_TYPE, WWScorchingFirePlacePacket.CODEC);
+		registry.register(WWTermiteEffectsPacket.PACKET_TYPE, WWTermiteEffectsPacket.CODEC);
 	}
 }
@@ -24,11 +24,17 @@ import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.block.entity.StoneChestBlockEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.server.level.ServerPlayer;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * A keyframe of a stone chest's lid, sent when the lid is lifted and when it starts closing.
+ * <p>
+ * Clients run the same lid animation as the server in between, and apply each keyframe to both halves of a double chest.
+ */
 public record WWStoneChestLidPacket(BlockPos pos, float openProgress, float highestLidPoint, int cooldownTicks, int stillLidTicks, boolean closing) implements CustomPacketPayload {
 	public static final Type<WWStoneChestLidPacket> PACKET_TYPE = new Type<>(
 		WWConstants.id("stone_chest_lid")
@@ -36,23 +42,28 @@ public record WWStoneChestLidPacket(BlockPos pos, float openProgress, float high
 
 	public static final StreamCodec<FriendlyByteBuf, WWStoneChestLidPacket> CODEC = StreamCodec.ofMember(WWStoneChestLidPacket::write, WWStoneChestLidPacket::new);
 
+	private static long keyframeCount;
+	private static long packetCount;
+	private static long byteCount;
+
 	public WWStoneChestLidPacket(@NotNull FriendlyByteBuf buf) {
-		this(buf.readBlockPos(), buf.readFloat(), buf.readFloat(), buf.readInt(), buf.readInt(), buf.readBoolean());
+		this(buf.readBlockPos(), buf.readFloat(), buf.readFloat(), buf.readVarInt(), buf.readVarInt(), buf.readBoolean());
 	}
 
 	public static void sendToAll(@NotNull StoneChestBlockEntity blockEntity) {
+		WWStoneChestLidPacket packet = new WWStoneChestLidPacket(
+			blockEntity.getBlockPos(),
+			blockEntity.openProgress,
+			blockEntity.highestLidPoint,
+			blockEntity.cooldownTicks,
+			blockEntity.stillLidTicks,
+			blockEntity.closing
+		);
+		keyframeCount += 1;
 		for (ServerPlayer player : PlayerLookup.tracking(blockEntity)) {
-			ServerPlayNetworking.send(
-				player,
-				new WWStoneChestLidPacket(
-					blockEntity.getBlockPos(),
-					blockEntity.openProgress,
-					blockEntity.highestLidPoint,
-					blockEntity.cooldownTicks,
-					blockEntity.stillLidTicks,
-					blockEntity.closing
-				)
-			);
+			ServerPlayNetworking.send(player, packet);
+			packetCount += 1;
+			byteCount += packet.getByteSize();
 		}
 	}
 
@@ -60,11 +71,39 @@ public record WWStoneChestLidPacket(BlockPos pos, float openProgress, float high
 		buf.writeBlockPos(this.pos);
 		buf.writeFloat(this.openProgress);
 		buf.writeFloat(this.highestLidPoint);
-		buf.writeInt(this.cooldownTicks);
-		buf.writeInt(this.stillLidTicks);
+		buf.writeVarInt(this.cooldownTicks);
+		buf.writeVarInt(this.stillLidTicks);
 		buf.writeBoolean(this.closing);
 	}
 
+	public int getByteSize() {
+		return Long.BYTES + Float.BYTES + Float.BYTES + VarInt.getByteSize(this.cooldownTicks) + VarInt.getByteSize(this.stillLidTicks) + 1;
+	}
+
+	/**
+	 * @return how many keyframes have been sent since the server started.
+	 */
+	public static long getKeyframeCount() {
+		return keyframeCount;
+	}
+
+	/**
+	 * @return how many packets have been sent since the server started, one per keyframe and tracking player.
+	 */
+	public static long getPacketCount() {
+		return packetCount;
+	}
+
+	public static long getByteCount() {
+		return byteCount;
+	}
+
+	public static void resetCounters() {
+		keyframeCount = 0L;
+		packetCount = 0L;
+		byteCount = 0L;
+	}
+
 	@NotNull
 	public Type<?> type() {
 		return PACKET_TYPE;
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.networking.packet;
+
+import net.frozenblock.wilderwild.WWConstants;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Termite particles or sounds emitted in a chunk during one tick.
+ * <p>
+ * Each effect is written as its {@link Effect} id, its position within the chunk, and any extra data the effect needs:
+ * <ul>
+ *     <li>{@link Effect#TERMITE}: particle count as a byte.</li>
+ *     <li>{@link Effect#GNAW} and {@link Effect#EAT}: block state id as a VarInt, then particle count as a byte.</li>
+ *     <li>Sounds: nothing, pitch is rolled on the client.</li>
+ * </ul>
+ */
+public record WWTermiteEffectsPacket(int chunkX, int chunkZ, int effectCount, byte[] effects) implements CustomPacketPayload {
+	public static final Type<WWTermiteEffectsPacket> PACKET_TYPE = new Type<>(
+		WWConstants.id("termite_effects")
+	);
+
+	public static final StreamCodec<FriendlyByteBuf, WWTermiteEffectsPacket> CODEC = StreamCodec.ofMember(WWTermiteEffectsPacket::write, WWTermiteEffectsPacket::new);
+
+	public WWTermiteEffectsPacket(@NotNull FriendlyByteBuf buf) {
+		this(buf.readVarInt(), buf.readVarInt(), buf.readVarInt(), buf.readByteArray());
+	}
+
+	public void write(@NotNull FriendlyByteBuf buf) {
+		buf.writeVarInt(this.chunkX);
+		buf.writeVarInt(this.chunkZ);
+		buf.writeVarInt(this.effectCount);
+		buf.writeByteArray(this.effects);
+	}
+
+	/**
+	 * @return the approximate size of this packet on the wire, not including the packet id.
+	 */
+	public int size() {
+		return VarInt.getByteSize(this.chunkX)
+			+ VarInt.getByteSize(this.chunkZ)
+			+ VarInt.getByteSize(this.effectCount)
+			+ VarInt.getByteSize(this.effects.length)
+			+ this.effects.length;
+	}
+
+	@NotNull
+	public Type<?> type() {
+		return PACKET_TYPE;
+	}
+
+	public enum Effect {
+		TERMITE(false),
+		GNAW(false),
+		EAT(false),
+		MOUND_ENTER(true),
+		MOUND_EXIT(true),
+		LOG_HOLLOWED(true),
+		STEM_HOLLOWED(true),
+		GNAW_FINISH(true);
+
+		private static final Effect[] VALUES = values();
+		private final boolean sound;
+
+		Effect(boolean sound) {
+			this.sound = sound;
+		}
+
+		public boolean isSound() {
+			return this.sound;
+		}
+
+		@Nullable
+		public static Effect byId(int id) {
+			return id >= 0 && id < VALUES.length ? VALUES[id] : null;
+		}
+	}
+}
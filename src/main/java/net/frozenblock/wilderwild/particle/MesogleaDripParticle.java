@@ -19,10 +19,10 @@
 package net.frozenblock.wilderwild.particle;
 
 import com.mojang.blaze3d.vertex.VertexConsumer;
-import com.mojang.math.Axis;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.math.api.AdvancedMath;
+import net.frozenblock.wilderwild.particle.impl.OrientedParticleQuads;
 import net.frozenblock.wilderwild.registry.WWParticleTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.minecraft.client.Camera;
@@ -40,15 +40,12 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
-import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Quaternionf;
-import org.joml.Vector3f;
 
 @Environment(EnvType.CLIENT)
 public class MesogleaDripParticle extends TextureSheetParticle {
 
-	private final Quaternionf rotation = new Quaternionf(0F, 0F, 0F, 0F);
 	private boolean shouldTickUpXRotMultiplier;
 	private float prevXRotMultiplier;
 	private float xRotMultiplier;
@@ -109,39 +106,26 @@ public class MesogleaDripParticle extends TextureSheetParticle {
 
 	@Override
 	public void render(@NotNull VertexConsumer buffer, @NotNull Camera renderInfo, float partialTicks) {
-		Vec3 vec3 = renderInfo.getPosition();
-		float f = (float) (Mth.lerp(partialTicks, this.xo, this.x) - vec3.x());
-		float g = (float) (Mth.lerp(partialTicks, this.yo, this.y) - vec3.y());
-		float h = (float) (Mth.lerp(partialTicks, this.zo, this.z) - vec3.z());
-		this.rotation.set(0F, 0F, 0F, 1F);
-		this.rotation.mul(Axis.YP.rotationDegrees(-renderInfo.getYRot()));
-		this.rotation.mul(Axis.XP.rotationDegrees(renderInfo.getXRot() * (Mth.lerp(partialTicks, this.prevXRotMultiplier, this.xRotMultiplier))));
+		Quaternionf rotation = OrientedParticleQuads.rotation()
+			.rotateY(-OrientedParticleQuads.getCameraYRot() * Mth.DEG_TO_RAD)
+			.rotateX(OrientedParticleQuads.getCameraXRot() * (Mth.lerp(partialTicks, this.prevXRotMultiplier, this.xRotMultiplier)) * Mth.DEG_TO_RAD);
 		if (this.roll != 0.0f) {
-			float i = Mth.lerp(partialTicks, this.oRoll, this.roll);
-			this.rotation.mul(Axis.ZP.rotation(i));
-		}
-		Vector3f[] vector3fs = new Vector3f[]{
-			new Vector3f(-1F, -1F, 0F),
-			new Vector3f(-1F, 1F, 0F),
-			new Vector3f(1F, 1F, 0F),
-			new Vector3f(1F, -1F, 0F)
-		};
-		float j = this.getQuadSize(partialTicks);
-		for (int k = 0; k < 4; ++k) {
-			Vector3f vector3f2 = vector3fs[k];
-			vector3f2.rotate(this.rotation);
-			vector3f2.mul(j);
-			vector3f2.add(f, g, h);
-		}
-		float l = this.getU0();
-		float m = this.getU1();
-		float n = this.getV0();
-		float o = this.getV1();
-		int p = this.getLightColor(partialTicks);
-		buffer.addVertex(vector3fs[0].x(), vector3fs[0].y(), vector3fs[0].z()).setUv(m, o).setColor(this.rCol, this.gCol, this.bCol, this.alpha).setLight(p);
-		buffer.addVertex(vector3fs[1].x(), vector3fs[1].y(), vector3fs[1].z()).setUv(m, n).setColor(this.rCol, this.gCol, this.bCol, this.alpha).setLight(p);
-		buffer.addVertex(vector3fs[2].x(), vector3fs[2].y(), vector3fs[2].z()).setUv(l, n).setColor(this.rCol, this.gCol, this.bCol, this.alpha).setLight(p);
-		buffer.addVertex(vector3fs[3].x(), vector3fs[3].y(), vector3fs[3].z()).setUv(l, o).setColor(this.rCol, this.gCol, this.bCol, this.alpha).setLight(p);
+			rotation.rotateZ(Mth.lerp(partialTicks, this.oRoll, this.roll));
+		}
+		OrientedParticleQuads.renderQuad(
+			buffer,
+			rotation,
+			OrientedParticleQuads.relativeX(partialTicks, this.xo, this.x),
+			OrientedParticleQuads.relativeY(partialTicks, this.yo, this.y),
+			OrientedParticleQuads.relativeZ(partialTicks, this.zo, this.z),
+			this.getQuadSize(partialTicks),
+			this.getU0(),
+			this.getU1(),
+			this.getV0(),
+			this.getV1(),
+			this.rCol, this.gCol, this.bCol, this.alpha,
+			this.getLightColor(partialTicks)
+		);
 	}
 
 	protected void preMoveUpdate() {
@@ -21,9 +21,9 @@ package net.frozenblock.wilderwild.particle;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.math.api.AdvancedMath;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.client.particle.ParticleProvider;
@@ -104,7 +104,7 @@ public class PollenParticle extends TextureSheetParticle {
 			if (!rain) {
 				double multXZ = (onGround ? 0.00025D : 0.0035D) * WIND_INTENSITY;
 				double multY = (onGround ? 0.00025D : 0.00175D) * WIND_INTENSITY;
-				Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
+				Vec3 wind = WindFieldCache.getWindMovement(this.level, this.x, this.y, this.z, 1D, 7D, 5D)
 					.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
 				this.xd += wind.x() * multXZ;
 				this.yd += (wind.y() + 0.1D) * multY;
@@ -20,12 +20,12 @@ package net.frozenblock.wilderwild.particle;
 
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import java.util.List;
-import java.util.function.Consumer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
+import net.frozenblock.wilderwild.particle.impl.OrientedParticleQuads;
 import net.frozenblock.wilderwild.particle.options.WindParticleOptions;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.Camera;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
@@ -33,16 +33,22 @@ import net.minecraft.client.particle.ParticleProvider;
 import net.minecraft.client.particle.ParticleRenderType;
 import net.minecraft.client.particle.SpriteSet;
 import net.minecraft.client.particle.TextureSheetParticle;
+import net.minecraft.core.BlockPos;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Quaternionf;
-import org.joml.Vector3f;
+import org.joml.Vector3d;
 
 @Environment(EnvType.CLIENT)
 public class WindParticle extends TextureSheetParticle {
-	private static final Vector3f NORMALIZED_QUAT_VECTOR = new Vector3f(0.5F, 0.5F, 0.5F).normalize();
+	// Scratch objects shared by every Wind particle, which are only ticked and rendered on the client thread.
+	private static final Vector3d WIND = new Vector3d();
+	private static final BlockPos.MutableBlockPos MUTABLE_POS = new BlockPos.MutableBlockPos();
 	private final SpriteSet spriteProvider;
 	private int ageBeforeDissipating;
 
@@ -73,11 +79,11 @@ public class WindParticle extends TextureSheetParticle {
 		super.tick();
 		double multXZ = 0.007D;
 		double multY = 0.0015D * 0.695;
-		Vec3 pos = new Vec3(this.x, this.y, this.z);
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, pos, 1D, 7D, 5D).scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-		this.xd += wind.x() * multXZ;
-		this.yd += wind.y() * multY;
-		this.zd += wind.z() * multXZ;
+		double intensity = WWAmbienceAndMiscConfig.getParticleWindIntensity();
+		Vector3d wind = WindFieldCache.getWindMovement(this.level, this.x, this.y, this.z, 1D, 7D, 5D, WIND);
+		this.xd += wind.x * intensity * multXZ;
+		this.yd += wind.y * intensity * multY;
+		this.zd += wind.z * intensity * multXZ;
 
 		this.prevYRot = this.yRot;
 		this.prevXRot = this.xRot;
@@ -140,16 +146,15 @@ public class WindParticle extends TextureSheetParticle {
 			double d = x;
 			double e = y;
 			double f = z;
-			if ((x != 0D || y != 0D || z != 0D) && x * x + y * y + z * z < Mth.square(100D)) {
+			if ((x != 0D || y != 0D || z != 0D) && x * x + y * y + z * z < Mth.square(100D) && this.mayCollide(x, y, z)) {
 				Vec3 vec3 = Entity.collideBoundingBox(null, new Vec3(x, y, z), this.getBoundingBox(), this.level, List.of());
 				x = vec3.x;
 				y = vec3.y;
 				z = vec3.z;
 			}
-			Vec3 vec3 = new Vec3(d, e, f);
 			boolean canDissipate = this.age > 7;
 
-			if (canDissipate && vec3.length() < 0.0065D) {
+			if (canDissipate && Math.sqrt(d * d + e * e + f * f) < 0.0065D) {
 				this.shouldDissipate = true;
 			}
 			if (x != 0D || y != 0D || z != 0D) {
@@ -176,6 +181,38 @@ public class WindParticle extends TextureSheetParticle {
 		}
 	}
 
+	/**
+	 * Checks whether any block the particle's bounding box sweeps through has a collision shape, so the full collision check can be
+	 * skipped while it's drifting through open air.
+	 * <p>
+	 * Like {@link net.minecraft.world.level.BlockCollisions}, this looks one block further out for blocks whose shapes stick out of their
+	 * space, such as fences, walls, and moving pistons.
+	 */
+	private boolean mayCollide(double x, double y, double z) {
+		AABB box = this.getBoundingBox();
+		int minX = Mth.floor(Math.min(box.minX, box.minX + x) - 1.0E-7D) - 1;
+		int minY = Mth.floor(Math.min(box.minY, box.minY + y) - 1.0E-7D) - 1;
+		int minZ = Mth.floor(Math.min(box.minZ, box.minZ + z) - 1.0E-7D) - 1;
+		int maxX = Mth.floor(Math.max(box.maxX, box.maxX + x) + 1.0E-7D) + 1;
+		int maxY = Mth.floor(Math.max(box.maxY, box.maxY + y) + 1.0E-7D) + 1;
+		int maxZ = Mth.floor(Math.max(box.maxZ, box.maxZ + z) + 1.0E-7D) + 1;
+		BlockPos.MutableBlockPos mutablePos = MUTABLE_POS;
+		for (int blockX = minX; blockX <= maxX; blockX++) {
+			for (int blockY = minY; blockY <= maxY; blockY++) {
+				for (int blockZ = minZ; blockZ <= maxZ; blockZ++) {
+					int edges = (blockX == minX || blockX == maxX ? 1 : 0) + (blockY == minY || blockY == maxY ? 1 : 0) + (blockZ == minZ || blockZ == maxZ ? 1 : 0);
+					if (edges == 3) continue;
+					mutablePos.set(blockX, blockY, blockZ);
+					BlockState state = this.level.getBlockState(mutablePos);
+					if (edges == 1 && !state.hasLargeCollisionShape()) continue;
+					if (edges == 2 && !state.is(Blocks.MOVING_PISTON)) continue;
+					if (!state.getCollisionShape(this.level, mutablePos).isEmpty()) return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void setSpriteFromAge(@NotNull SpriteSet spriteProvider) {
 		if (!this.removed) {
@@ -188,25 +225,26 @@ public class WindParticle extends TextureSheetParticle {
 	public void render(VertexConsumer buffer, @NotNull Camera renderInfo, float partialTicks) {
 		float yRot = Mth.lerp(partialTicks, this.prevYRot, this.yRot) * Mth.DEG_TO_RAD;
 		float xRot = Mth.lerp(partialTicks, this.prevXRot, this.xRot) * -Mth.DEG_TO_RAD;
-		float cameraRotWhileVertical = ((-renderInfo.getYRot()) * (1F - Mth.lerp(partialTicks, this.prevRotMultiplier, this.rotMultiplier))) * Mth.DEG_TO_RAD;
-
-		float x = (float)(Mth.lerp(partialTicks, this.xo, this.x));
-		float y = (float)(Mth.lerp(partialTicks, this.yo, this.y));
-		float z = (float)(Mth.lerp(partialTicks, this.zo, this.z));
-		Vec3 relativePos = new Vec3(x, y, z).subtract(renderInfo.getPosition());
-		relativePos = new Vec3(
-			relativePos.x > 0 ? 1D : -1D,
-			relativePos.y > 0 ? 1D : -1D,
-			relativePos.z > 0 ? 1D : -1D
-		);
-		Vec3 particleMovement = new Vec3(this.xd, 0D, this.zd).normalize();
-		float xDifference = (float) Math.abs(particleMovement.x + relativePos.z);
+		float rotMultiplier = Mth.lerp(partialTicks, this.prevRotMultiplier, this.rotMultiplier);
+		float cameraRotWhileVertical = ((-OrientedParticleQuads.getCameraYRot()) * (1F - rotMultiplier)) * Mth.DEG_TO_RAD;
+
+		float x = OrientedParticleQuads.relativeX(partialTicks, this.xo, this.x);
+		float y = OrientedParticleQuads.relativeY(partialTicks, this.yo, this.y);
+		float z = OrientedParticleQuads.relativeZ(partialTicks, this.zo, this.z);
+		double relativeX = x > 0 ? 1D : -1D;
+		double relativeZ = z > 0 ? 1D : -1D;
+
+		double movementLength = Math.sqrt(this.xd * this.xd + this.zd * this.zd);
+		boolean hasMovement = movementLength >= 1.0E-5F;
+		double movementX = hasMovement ? this.xd / movementLength : 0D;
+		double movementZ = hasMovement ? this.zd / movementLength : 0D;
+		float xDifference = (float) Math.abs(movementX + relativeZ);
 		xDifference = xDifference >= 1F ? 0 : (Math.abs(xDifference - 1F));
 		boolean shouldDoubleClampXRot = xDifference == 0D;
-		float cameraXRot = renderInfo.getXRot();
+		float cameraXRot = OrientedParticleQuads.getCameraXRot();
 		xDifference = Mth.sin((-cameraXRot * Mth.PI) / 180F) * Mth.PI * xDifference;
 
-		float zDifference = (float) Math.abs(particleMovement.z - relativePos.x);
+		float zDifference = (float) Math.abs(movementZ - relativeX);
 		zDifference = zDifference >= 1F ? 0 : (Math.abs(zDifference - 1F));
 		shouldDoubleClampXRot = shouldDoubleClampXRot || zDifference == 0D;
 		zDifference = Mth.sin((-cameraXRot * Mth.PI) / 180F) * Mth.PI * zDifference;
@@ -215,58 +253,38 @@ public class WindParticle extends TextureSheetParticle {
 			cameraXRot = Math.clamp(cameraXRot * 1.5F, -90, 90);
 		}
 
-		float cameraRotWhileSideways = ((90F + cameraXRot) * (Mth.lerp(partialTicks, this.prevRotMultiplier, this.rotMultiplier))) * Mth.DEG_TO_RAD + xDifference + zDifference;
-		this.renderParticle(buffer, renderInfo, partialTicks, this.flipped, transforms -> transforms.rotateY(yRot)
+		float cameraRotWhileSideways = ((90F + cameraXRot) * rotMultiplier) * Mth.DEG_TO_RAD + xDifference + zDifference;
+		float quadSize = this.getQuadSize(partialTicks);
+		int light = this.getLightColor(partialTicks);
+
+		Quaternionf rotation = OrientedParticleQuads.rotation()
+			.rotateY(yRot)
 			.rotateX(-xRot)
 			.rotateY(cameraRotWhileSideways)
-			.rotateY(cameraRotWhileVertical)
-		);
-		this.renderParticle(buffer, renderInfo, partialTicks, !this.flipped, transforms -> transforms.rotateY((float) -Math.PI + yRot)
+			.rotateY(cameraRotWhileVertical);
+		this.renderParticle(buffer, rotation, x, y, z, quadSize, light, this.flipped);
+
+		rotation.identity()
+			.rotateY((float) -Math.PI + yRot)
 			.rotateX(xRot)
 			.rotateY(cameraRotWhileSideways)
-			.rotateY(cameraRotWhileVertical));
+			.rotateY(cameraRotWhileVertical);
+		this.renderParticle(buffer, rotation, x, y, z, quadSize, light, !this.flipped);
 	}
 
-	private void renderParticle(VertexConsumer buffer, @NotNull Camera renderInfo, float partialTicks, boolean flipped, @NotNull Consumer<Quaternionf> quaternionConsumer) {
-		Vec3 vec3 = renderInfo.getPosition();
-		float f = (float)(Mth.lerp(partialTicks, this.xo, this.x) - vec3.x());
-		float g = (float)(Mth.lerp(partialTicks, this.yo, this.y) - vec3.y());
-		float h = (float)(Mth.lerp(partialTicks, this.zo, this.z) - vec3.z());
-		Quaternionf quaternionf = new Quaternionf().setAngleAxis(0F, NORMALIZED_QUAT_VECTOR.x(), NORMALIZED_QUAT_VECTOR.y(), NORMALIZED_QUAT_VECTOR.z());
-		quaternionConsumer.accept(quaternionf);
-		Vector3f[] vector3fs = new Vector3f[]{
-			new Vector3f(-1F, -1F, 0F), new Vector3f(-1F, 1F, 0F), new Vector3f(1F, 1F, 0F), new Vector3f(1F, -1F, 0F)
-		};
-		float i = this.getQuadSize(partialTicks);
-
-		for(int j = 0; j < 4; ++j) {
-			Vector3f vector3f2 = vector3fs[j];
-			vector3f2.rotate(quaternionf);
-			vector3f2.mul(i);
-			vector3f2.add(f, g, h);
-		}
-
-		float k = !flipped ? this.getU0() : this.getU1();
-		float l = !flipped ? this.getU1() : this.getU0();
-		float m = this.getV0();
-		float n = this.getV1();
-		int light = this.getLightColor(partialTicks);
-		buffer.addVertex(vector3fs[0].x(), vector3fs[0].y(), vector3fs[0].z())
-			.setUv(l, n)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
-		buffer.addVertex(vector3fs[1].x(), vector3fs[1].y(), vector3fs[1].z())
-			.setUv(l, m)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
-		buffer.addVertex(vector3fs[2].x(), vector3fs[2].y(), vector3fs[2].z())
-			.setUv(k, m)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
-		buffer.addVertex(vector3fs[3].x(), vector3fs[3].y(), vector3fs[3].z())
-			.setUv(k, n)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
+	private void renderParticle(VertexConsumer buffer, @NotNull Quaternionf rotation, float x, float y, float z, float quadSize, int light, boolean flipped) {
+		OrientedParticleQuads.renderQuad(
+			buffer,
+			rotation,
+			x, y, z,
+			quadSize,
+			!flipped ? this.getU0() : this.getU1(),
+			!flipped ? this.getU1() : this.getU0(),
+			this.getV0(),
+			this.getV1(),
+			this.rCol, this.gCol, this.bCol, this.alpha,
+			light
+		);
 	}
 
 	@Override
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.particle.impl;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Camera;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+/**
+ * Shared geometry for Wilder Wild's particles that orient their own quads instead of facing the camera.
+ * <p>
+ * The camera's position and rotation are captured once per frame, and every quad is built through the same rotation and corner,
+ * so rendering these particles doesn't allocate.
+ * Particles are only rendered on the render thread, so the scratch objects are never shared between threads.
+ */
+@Environment(EnvType.CLIENT)
+public final class OrientedParticleQuads {
+	private static final Quaternionf ROTATION = new Quaternionf();
+	private static final Vector3f CORNER = new Vector3f();
+	private static double cameraX;
+	private static double cameraY;
+	private static double cameraZ;
+	private static float cameraXRot;
+	private static float cameraYRot;
+
+	private OrientedParticleQuads() {
+	}
+
+	/**
+	 * Captures the camera's basis for the frame about to be rendered.
+	 */
+	public static void setCamera(@NotNull Camera camera) {
+		Vec3 position = camera.getPosition();
+		cameraX = position.x;
+		cameraY = position.y;
+		cameraZ = position.z;
+		cameraXRot = camera.getXRot();
+		cameraYRot = camera.getYRot();
+	}
+
+	public static float getCameraXRot() {
+		return cameraXRot;
+	}
+
+	public static float getCameraYRot() {
+		return cameraYRot;
+	}
+
+	public static float relativeX(float partialTicks, double xo, double x) {
+		return (float) (Mth.lerp(partialTicks, xo, x) - cameraX);
+	}
+
+	public static float relativeY(float partialTicks, double yo, double y) {
+		return (float) (Mth.lerp(partialTicks, yo, y) - cameraY);
+	}
+
+	public static float relativeZ(float partialTicks, double zo, double z) {
+		return (float) (Mth.lerp(partialTicks, zo, z) - cameraZ);
+	}
+
+	/**
+	 * @return the shared rotation, reset to identity. Only valid until the next call.
+	 */
+	@NotNull
+	public static Quaternionf rotation() {
+		return ROTATION.identity();
+	}
+
+	/**
+	 * Adds a quad spanning {@code -quadSize} to {@code quadSize}, rotated by {@code rotation} and centered on the given camera-relative position.
+	 */
+	public static void renderQuad(
+		@NotNull VertexConsumer buffer,
+		@NotNull Quaternionf rotation,
+		float x, float y, float z,
+		float quadSize,
+		float u0, float u1, float v0, float v1,
+		float red, float green, float blue, float alpha,
+		int light
+	) {
+		addVertex(buffer, rotation, -1F, -1F, x, y, z, quadSize, u1, v1, red, green, blue, alpha, light);
+		addVertex(buffer, rotation, -1F, 1F, x, y, z, quadSize, u1, v0, red, green, blue, alpha, light);
+		addVertex(buffer, rotation, 1F, 1F, x, y, z, quadSize, u0, v0, red, green, blue, alpha, light);
+		addVertex(buffer, rotation, 1F, -1F, x, y, z, quadSize, u0, v1, red, green, blue, alpha, light);
+	}
+
+	private static void addVertex(
+		@NotNull VertexConsumer buffer,
+		@NotNull Quaternionf rotation,
+		float cornerX, float cornerY,
+		float x, float y, float z,
+		float quadSize,
+		float u, float v,
+		float red, float green, float blue, float alpha,
+		int light
+	) {
+		Vector3f corner = CORNER.set(cornerX, cornerY, 0F).rotate(rotation).mul(quadSize).add(x, y, z);
+		buffer.addVertex(corner.x(), corner.y(), corner.z())
+			.setUv(u, v)
+			.setColor(red, green, blue, alpha)
+			.setLight(light);
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.registry;
+
+import java.util.List;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.block.impl.ticker.FallingLeaf;
+
+public final class WWAttachmentTypes {
+	public static final AttachmentType<List<FallingLeaf>> FALLING_LEAVES = AttachmentRegistry.<List<FallingLeaf>>builder()
+		.persistent(FallingLeaf.LIST_CODEC)
+		.buildAndRegister(WWConstants.id("falling_leaves"));
+
+	private WWAttachmentTypes() {
+		throw new UnsupportedOperationException("WWAttachmentTypes contains only static declarations.");
+	}
+
+	public static void init() {
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.registry;
+
+import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.entity.Crab;
+import net.frozenblock.wilderwild.entity.variant.FireflyColor;
+import net.frozenblock.wilderwild.entity.variant.JellyfishVariant;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.syncher.EntityDataSerializer;
+import net.minecraft.network.syncher.EntityDataSerializers;
+import net.minecraft.util.ByIdMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Synced entity data types that send an id instead of a name, so they're written as a single byte and read without parsing.
+ */
+public final class WWEntityDataSerializers {
+	public static final EntityDataSerializer<Crab.MoveState> CRAB_MOVE_STATE = register(
+		EntityDataSerializer.forValueType(ByteBufCodecs.idMapper(ByIdMap.continuous(Crab.MoveState::ordinal, Crab.MoveState.values(), ByIdMap.OutOfBoundsStrategy.ZERO), Crab.MoveState::ordinal))
+	);
+	public static final EntityDataSerializer<Crab.ClimbingFace> CRAB_CLIMBING_FACE = register(
+		EntityDataSerializer.forValueType(ByteBufCodecs.idMapper(ByIdMap.continuous(Crab.ClimbingFace::ordinal, Crab.ClimbingFace.values(), ByIdMap.OutOfBoundsStrategy.ZERO), Crab.ClimbingFace::ordinal))
+	);
+	public static final EntityDataSerializer<FireflyColor> FIREFLY_COLOR = register(
+		EntityDataSerializer.forValueType(ByteBufCodecs.idMapper(WilderWildRegistries.FIREFLY_COLOR))
+	);
+	public static final EntityDataSerializer<JellyfishVariant> JELLYFISH_VARIANT = register(
+		EntityDataSerializer.forValueType(ByteBufCodecs.idMapper(WilderWildRegistries.JELLYFISH_VARIANT))
+	);
+
+	private WWEntityDataSerializers() {
+		throw new UnsupportedOperationException("WWEntityDataSerializers contains only static declarations.");
+	}
+
+	public static void init() {
+		WWConstants.logWithModId("Registering EntityDataSerializers for", WWConstants.UNSTABLE_LOGGING);
+	}
+
+	@NotNull
+	private static <T> EntityDataSerializer<T> register(@NotNull EntityDataSerializer<T> serializer) {
+		EntityDataSerializers.registerSerializer(serializer);
+		return serializer;
+	}
+}
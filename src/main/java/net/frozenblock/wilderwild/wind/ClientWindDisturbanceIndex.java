@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.wind.api.WindDisturbance;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Buckets the affected areas of the client's {@link WindDisturbance}s by section, so checking whether a position is disturbed
+ * only tests the few areas overlapping its section.
+ * <p>
+ * Only sections within a given range of the camera are indexed, keeping the index small around large disturbances.
+ */
+@Environment(EnvType.CLIENT)
+public final class ClientWindDisturbanceIndex {
+	private final Long2ObjectOpenHashMap<ObjectArrayList<AABB>> areasBySection = new Long2ObjectOpenHashMap<>();
+	private final ObjectArrayList<ObjectArrayList<AABB>> unusedLists = new ObjectArrayList<>();
+
+	public void rebuild(@NotNull Iterable<? extends WindDisturbance<?>> windDisturbances, int posX, int posY, int posZ, int range) {
+		this.clear();
+		int minSectionX = SectionPos.blockToSectionCoord(posX - range);
+		int minSectionY = SectionPos.blockToSectionCoord(posY - range);
+		int minSectionZ = SectionPos.blockToSectionCoord(posZ - range);
+		int maxSectionX = SectionPos.blockToSectionCoord(posX + range);
+		int maxSectionY = SectionPos.blockToSectionCoord(posY + range);
+		int maxSectionZ = SectionPos.blockToSectionCoord(posZ + range);
+
+		for (WindDisturbance<?> windDisturbance : windDisturbances) {
+			AABB area = windDisturbance.affectedArea;
+			int fromX = Math.max(minSectionX, SectionPos.blockToSectionCoord(Mth.floor(area.minX)));
+			int fromY = Math.max(minSectionY, SectionPos.blockToSectionCoord(Mth.floor(area.minY)));
+			int fromZ = Math.max(minSectionZ, SectionPos.blockToSectionCoord(Mth.floor(area.minZ)));
+			int toX = Math.min(maxSectionX, SectionPos.blockToSectionCoord(Mth.floor(area.maxX)));
+			int toY = Math.min(maxSectionY, SectionPos.blockToSectionCoord(Mth.floor(area.maxY)));
+			int toZ = Math.min(maxSectionZ, SectionPos.blockToSectionCoord(Mth.floor(area.maxZ)));
+
+			for (int x = fromX; x <= toX; x++) {
+				for (int y = fromY; y <= toY; y++) {
+					for (int z = fromZ; z <= toZ; z++) {
+						long sectionPos = SectionPos.asLong(x, y, z);
+						ObjectArrayList<AABB> areas = this.areasBySection.get(sectionPos);
+						if (areas == null) {
+							areas = this.unusedLists.isEmpty() ? new ObjectArrayList<>() : this.unusedLists.pop();
+							this.areasBySection.put(sectionPos, areas);
+						}
+						areas.add(area);
+					}
+				}
+			}
+		}
+	}
+
+	public boolean isEmpty() {
+		return this.areasBySection.isEmpty();
+	}
+
+	public boolean isDisturbed(int x, int y, int z) {
+		ObjectArrayList<AABB> areas = this.areasBySection.get(
+			SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y), SectionPos.blockToSectionCoord(z))
+		);
+		if (areas != null) {
+			for (int i = 0, size = areas.size(); i < size; i++) {
+				if (areas.get(i).contains(x, y, z)) return true;
+			}
+		}
+		return false;
+	}
+
+	public void clear() {
+		for (ObjectArrayList<AABB> areas : this.areasBySection.values()) {
+			areas.clear();
+			this.unusedLists.add(areas);
+		}
+		this.areasBySection.clear();
+	}
+}
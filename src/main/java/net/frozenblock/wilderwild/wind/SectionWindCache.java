@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Map;
+import net.frozenblock.lib.wind.api.WindManager;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Samples {@link WindManager#getWindMovement} once per chunk section per tick, at the section's center, and shares the sample with
+ * every entity in that section.
+ * <p>
+ * Meant for entities that only drift slightly with the wind and tend to cluster, where sampling at each entity's exact position
+ * makes no visible difference.
+ */
+public final class SectionWindCache {
+	private static final Map<ServerLevel, SectionWindCache> LEVEL_CACHES = new Reference2ObjectOpenHashMap<>();
+
+	private final ObjectArrayList<Samples> samples = new ObjectArrayList<>();
+	private long gameTime = Long.MIN_VALUE;
+
+	private SectionWindCache() {
+	}
+
+	@NotNull
+	public static SectionWindCache get(@NotNull ServerLevel level) {
+		SectionWindCache cache = LEVEL_CACHES.get(level);
+		if (cache == null) {
+			cache = new SectionWindCache();
+			LEVEL_CACHES.put(level, cache);
+		}
+		return cache;
+	}
+
+	@NotNull
+	public static Vec3 getWindMovement(@NotNull ServerLevel level, @NotNull Vec3 pos, double scale, double clamp, double windDisturbanceScale) {
+		return get(level).getWindMovement(level, Mth.floor(pos.x), Mth.floor(pos.y), Mth.floor(pos.z), scale, clamp, windDisturbanceScale);
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		LEVEL_CACHES.remove(level);
+	}
+
+	public static void clear() {
+		LEVEL_CACHES.clear();
+	}
+
+	@NotNull
+	private Vec3 getWindMovement(@NotNull ServerLevel level, int x, int y, int z, double scale, double clamp, double windDisturbanceScale) {
+		long currentTime = level.getGameTime();
+		if (currentTime != this.gameTime) {
+			this.gameTime = currentTime;
+			for (int i = 0, size = this.samples.size(); i < size; i++) {
+				this.samples.get(i).bySection.clear();
+			}
+		}
+
+		Samples samples = this.getSamples(scale, clamp, windDisturbanceScale);
+		int sectionX = SectionPos.blockToSectionCoord(x);
+		int sectionY = SectionPos.blockToSectionCoord(y);
+		int sectionZ = SectionPos.blockToSectionCoord(z);
+		long sectionPos = SectionPos.asLong(sectionX, sectionY, sectionZ);
+		Vec3 wind = samples.bySection.get(sectionPos);
+		if (wind == null) {
+			wind = WindManager.getWindManager(level).getWindMovement(
+				new Vec3(
+					SectionPos.sectionToBlockCoord(sectionX, 8),
+					SectionPos.sectionToBlockCoord(sectionY, 8),
+					SectionPos.sectionToBlockCoord(sectionZ, 8)
+				),
+				scale,
+				clamp,
+				windDisturbanceScale
+			);
+			samples.bySection.put(sectionPos, wind);
+		}
+		return wind;
+	}
+
+	@NotNull
+	private Samples getSamples(double scale, double clamp, double windDisturbanceScale) {
+		for (int i = 0, size = this.samples.size(); i < size; i++) {
+			Samples samples = this.samples.get(i);
+			if (samples.scale == scale && samples.clamp == clamp && samples.windDisturbanceScale == windDisturbanceScale) return samples;
+		}
+		Samples samples = new Samples(scale, clamp, windDisturbanceScale);
+		this.samples.add(samples);
+		return samples;
+	}
+
+	private static final class Samples {
+		private final double scale;
+		private final double clamp;
+		private final double windDisturbanceScale;
+		private final Long2ObjectOpenHashMap<Vec3> bySection = new Long2ObjectOpenHashMap<>();
+
+		private Samples(double scale, double clamp, double windDisturbanceScale) {
+			this.scale = scale;
+			this.clamp = clamp;
+			this.windDisturbanceScale = windDisturbanceScale;
+		}
+	}
+}
@@ -26,6 +26,7 @@ import net.frozenblock.lib.wind.api.ClientWindManagerExtension;
 import net.frozenblock.lib.worldgen.heightmap.api.FrozenHeightmaps;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.options.WindParticleOptions;
+import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
@@ -38,12 +39,15 @@ import org.jetbrains.annotations.NotNull;
 
 @Environment(EnvType.CLIENT)
 public final class WWClientWindManager implements ClientWindManagerExtension {
+	private static final int PARTICLE_RANGE = 48;
 	public static double prevCloudX;
 	public static double prevCloudY;
 	public static double prevCloudZ;
 	public static double cloudX;
 	public static double cloudY;
 	public static double cloudZ;
+	private final ClientWindDisturbanceIndex disturbanceIndex = new ClientWindDisturbanceIndex();
+	private final BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
 
 	public static double getCloudX(float partialTick) {
 		return Mth.lerp(partialTick, prevCloudX, cloudX);
@@ -70,37 +74,42 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 		Minecraft minecraft = Minecraft.getInstance();
 		ClientLevel level = minecraft.level;
 		if (level != null) {
-			BlockPos pos = minecraft.gameRenderer.getMainCamera().getBlockPosition();
+			Camera camera = minecraft.gameRenderer.getMainCamera();
+			Vec3 cameraPos = camera.getPosition();
+			WindFieldCache.tick(level, cameraPos.x, cameraPos.y, cameraPos.z);
+			BlockPos pos = camera.getBlockPosition();
 			this.animateTick(level, pos.getX(), pos.getY(), pos.getZ());
+		} else {
+			WindFieldCache.clear();
 		}
 	}
 
 	public void animateTick(@NotNull ClientLevel level, int posX, int posY, int posZ) {
 		RandomSource randomSource = level.random;
-		BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
 		if (WWAmbienceAndMiscConfig.WIND_PARTICLES) {
 			for (int i = 0; i < WWAmbienceAndMiscConfig.WIND_PARTICLE_SPAWN_ATTEMPTS; ++i) {
-				this.spawnAmbientWindParticles(level, posX, posY, posZ, 48, randomSource, mutableBlockPos);
+				this.spawnAmbientWindParticles(level, posX, posY, posZ, PARTICLE_RANGE, randomSource);
 			}
 		}
 		if (WWAmbienceAndMiscConfig.WIND_DISTURBANCE_PARTICLES) {
-			for (int i = 0; i < WWAmbienceAndMiscConfig.WIND_DISTURBANCE_PARTICLE_SPAWN_ATTEMPTS; ++i) {
-				this.spawnDisturbanceWindParticles(level, posX, posY, posZ, 48, randomSource, mutableBlockPos);
+			BlockPos.MutableBlockPos mutableBlockPos = this.mutableBlockPos;
+			this.disturbanceIndex.rebuild(ClientWindManager.getWindDisturbances(), posX, posY, posZ, PARTICLE_RANGE);
+			if (!this.disturbanceIndex.isEmpty()) {
+				for (int i = 0; i < WWAmbienceAndMiscConfig.WIND_DISTURBANCE_PARTICLE_SPAWN_ATTEMPTS; ++i) {
+					this.spawnDisturbanceWindParticles(level, posX, posY, posZ, PARTICLE_RANGE, randomSource, mutableBlockPos);
+				}
 			}
+			this.disturbanceIndex.clear();
 		}
 	}
 
-	public void spawnAmbientWindParticles(
-		@NotNull ClientLevel level, int posX, int posY, int posZ, int range, @NotNull RandomSource random, @NotNull BlockPos.MutableBlockPos blockPos
-	) {
+	public void spawnAmbientWindParticles(@NotNull ClientLevel level, int posX, int posY, int posZ, int range, @NotNull RandomSource random) {
 		int highestPossibleY = posY + range;
 		int i = posX + random.nextIntBetweenInclusive(-range, range);
 		int j = posY;
 		int k = posZ + random.nextIntBetweenInclusive(-range, range);
-		blockPos.set(i, j, k);
 
-		blockPos.set(level.getHeightmapPos(FrozenHeightmaps.MOTION_BLOCKING_NO_LEAVES_SYNCED, blockPos));
-		int heightmapY = blockPos.getY();
+		int heightmapY = level.getHeight(FrozenHeightmaps.MOTION_BLOCKING_NO_LEAVES_SYNCED, i, k);
 		if (heightmapY > highestPossibleY) {
 			return;
 		} else if (heightmapY < posY - range) {
@@ -113,9 +122,7 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 				return;
 			}
 		}
-		blockPos.set(i, j, k);
-
-		Vec3 wind = ClientWindManager.getWindMovement(level, Vec3.atCenterOf(blockPos), 1D, 2D, 2D);
+		Vec3 wind = WindFieldCache.getWindMovement(level, i + 0.5D, j + 0.5D, k + 0.5D, 1D, 2D, 2D);
 		double horizontalWind = wind.horizontalDistance();
 		if (random.nextDouble() < (horizontalWind * WWAmbienceAndMiscConfig.getWindParticleFrequency())) {
 			level.addParticle(
@@ -136,17 +143,17 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 		int i = posX + random.nextIntBetweenInclusive(-range, range);
 		int j = posY + random.nextIntBetweenInclusive(-range, range);
 		int k = posZ + random.nextIntBetweenInclusive(-range, range);
-		blockPos.set(i, j, k);
-		if (ClientWindManager.getWindDisturbances().stream().noneMatch(windDisturbance -> windDisturbance.affectedArea.contains(i, j, k))) {
+		if (!this.disturbanceIndex.isDisturbed(i, j, k)) {
 			return;
 		}
+		blockPos.set(i, j, k);
 
 		BlockState blockState = level.getBlockState(blockPos);
 
 		if (!blockState.isCollisionShapeFullBlock(level, blockPos)) {
 			Vec3 wind = ClientWindManager.getWindMovement(level, Vec3.atCenterOf(blockPos), 1D, 1000D, 1000D).scale(0.001D);
 			double windLength = wind.length();
-			if (random.nextDouble() < ((wind.length() - 0.001D) * WWAmbienceAndMiscConfig.getWindDisturbanceParticleFrequency())) {
+			if (random.nextDouble() < ((windLength - 0.001D) * WWAmbienceAndMiscConfig.getWindDisturbanceParticleFrequency())) {
 				level.addParticle(
 					new WindParticleOptions((int) (10D + (windLength * 30D)), wind.x * 0.01D, wind.y * 0.003D, wind.z * 0.01D),
 					i,
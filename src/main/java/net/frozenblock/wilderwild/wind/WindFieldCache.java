@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.wind.api.ClientWindManager;
+import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3d;
+
+/**
+ * Caches {@link ClientWindManager#getWindMovement} on a coarse grid around the camera, so particles read the wind by interpolating
+ * between grid points instead of sampling it themselves.
+ * <p>
+ * Grid points are sampled the first time they're read in a tick, and each distinct set of wind parameters gets its own grid.
+ * Positions outside of the grid, or in a level other than the camera's, are sampled directly.
+ */
+@Environment(EnvType.CLIENT)
+public final class WindFieldCache {
+	public static final int SPACING = 2;
+	public static final int SIZE = 33;
+	private static final int HALF_EXTENT = (SIZE - 1) / 2 * SPACING;
+	private static final ObjectArrayList<Grid> GRIDS = new ObjectArrayList<>();
+	// Only read and written on the client thread, as is the rest of the cache.
+	private static final Vector3d SCRATCH = new Vector3d();
+	@Nullable
+	private static Level level;
+	private static int stamp = 1;
+	private static int originX;
+	private static int originY;
+	private static int originZ;
+
+	private static int lookups;
+	private static int hits;
+	private static int samples;
+	private static int misses;
+	private static int lastLookups;
+	private static int lastHits;
+	private static int lastSamples;
+	private static int lastMisses;
+
+	private WindFieldCache() {
+	}
+
+	/**
+	 * Invalidates every grid and centers them on the camera.
+	 */
+	public static void tick(@Nullable Level cameraLevel, double cameraX, double cameraY, double cameraZ) {
+		level = cameraLevel;
+		stamp += 1;
+		originX = snap(cameraX) - HALF_EXTENT;
+		originY = snap(cameraY) - HALF_EXTENT;
+		originZ = snap(cameraZ) - HALF_EXTENT;
+
+		lastLookups = lookups;
+		lastHits = hits;
+		lastSamples = samples;
+		lastMisses = misses;
+		lookups = 0;
+		hits = 0;
+		samples = 0;
+		misses = 0;
+	}
+
+	public static void clear() {
+		GRIDS.clear();
+		level = null;
+	}
+
+	private static int snap(double coordinate) {
+		return Math.floorDiv(Mth.floor(coordinate), SPACING) * SPACING;
+	}
+
+	@NotNull
+	public static Vec3 getWindMovement(@NotNull Level level, double x, double y, double z, double scale, double clamp, double windDisturbanceScale) {
+		if (!WWAmbienceAndMiscConfig.CACHED_WIND_FIELD || level != WindFieldCache.level) {
+			return ClientWindManager.getWindMovement(level, new Vec3(x, y, z), scale, clamp, windDisturbanceScale);
+		}
+		Vector3d wind = getWindMovement(level, x, y, z, scale, clamp, windDisturbanceScale, SCRATCH);
+		return new Vec3(wind.x, wind.y, wind.z);
+	}
+
+	/**
+	 * Writes the wind at the given position into {@code destination}, only allocating when sampling outside of the grid.
+	 */
+	@NotNull
+	public static Vector3d getWindMovement(@NotNull Level level, double x, double y, double z, double scale, double clamp, double windDisturbanceScale, @NotNull Vector3d destination) {
+		if (!WWAmbienceAndMiscConfig.CACHED_WIND_FIELD || level != WindFieldCache.level) {
+			return set(destination, ClientWindManager.getWindMovement(level, new Vec3(x, y, z), scale, clamp, windDisturbanceScale));
+		}
+		lookups += 1;
+
+		double gridX = (x - originX) / SPACING;
+		double gridY = (y - originY) / SPACING;
+		double gridZ = (z - originZ) / SPACING;
+		int cellX = Mth.floor(gridX);
+		int cellY = Mth.floor(gridY);
+		int cellZ = Mth.floor(gridZ);
+		if (cellX < 0 || cellY < 0 || cellZ < 0 || cellX >= SIZE - 1 || cellY >= SIZE - 1 || cellZ >= SIZE - 1) {
+			misses += 1;
+			return set(destination, ClientWindManager.getWindMovement(level, new Vec3(x, y, z), scale, clamp, windDisturbanceScale));
+		}
+
+		Grid grid = getGrid(scale, clamp, windDisturbanceScale);
+		double deltaX = gridX - cellX;
+		double deltaY = gridY - cellY;
+		double deltaZ = gridZ - cellZ;
+		double windX = 0D;
+		double windY = 0D;
+		double windZ = 0D;
+		for (int corner = 0; corner < 8; corner++) {
+			int offsetX = corner & 1;
+			int offsetY = (corner >> 1) & 1;
+			int offsetZ = (corner >> 2) & 1;
+			double weight = (offsetX == 0 ? 1D - deltaX : deltaX) * (offsetY == 0 ? 1D - deltaY : deltaY) * (offsetZ == 0 ? 1D - deltaZ : deltaZ);
+			int index = grid.sample(level, cellX + offsetX, cellY + offsetY, cellZ + offsetZ);
+			windX += grid.windX[index] * weight;
+			windY += grid.windY[index] * weight;
+			windZ += grid.windZ[index] * weight;
+		}
+		return destination.set(windX, windY, windZ);
+	}
+
+	@NotNull
+	private static Vector3d set(@NotNull Vector3d destination, @NotNull Vec3 wind) {
+		return destination.set(wind.x, wind.y, wind.z);
+	}
+
+	@NotNull
+	private static Grid getGrid(double scale, double clamp, double windDisturbanceScale) {
+		for (int i = 0, size = GRIDS.size(); i < size; i++) {
+			Grid grid = GRIDS.get(i);
+			if (grid.scale == scale && grid.clamp == clamp && grid.windDisturbanceScale == windDisturbanceScale) return grid;
+		}
+		Grid grid = new Grid(scale, clamp, windDisturbanceScale);
+		GRIDS.add(grid);
+		return grid;
+	}
+
+	/**
+	 * @return the number of wind lookups made during the last tick.
+	 */
+	public static int getLookups() {
+		return lastLookups;
+	}
+
+	/**
+	 * @return the number of grid points sampled from {@link ClientWindManager} during the last tick.
+	 */
+	public static int getSamples() {
+		return lastSamples;
+	}
+
+	/**
+	 * @return the number of lookups made outside of the grid during the last tick, each sampled directly.
+	 */
+	public static int getMisses() {
+		return lastMisses;
+	}
+
+	/**
+	 * @return the fraction of grid point reads during the last tick that were already sampled.
+	 */
+	public static double getHitRate() {
+		int reads = lastHits + lastSamples;
+		return reads == 0 ? 0D : (double) lastHits / reads;
+	}
+
+	public static int getGridCount() {
+		return GRIDS.size();
+	}
+
+	private static final class Grid {
+		private final double scale;
+		private final double clamp;
+		private final double windDisturbanceScale;
+		private final int[] stamps = new int[SIZE * SIZE * SIZE];
+		private final float[] windX = new float[SIZE * SIZE * SIZE];
+		private final float[] windY = new float[SIZE * SIZE * SIZE];
+		private final float[] windZ = new float[SIZE * SIZE * SIZE];
+
+		private Grid(double scale, double clamp, double windDisturbanceScale) {
+			this.scale = scale;
+			this.clamp = clamp;
+			this.windDisturbanceScale = windDisturbanceScale;
+		}
+
+		private int sample(@NotNull Level level, int x, int y, int z) {
+			int index = (x * SIZE + y) * SIZE + z;
+			if (this.stamps[index] == stamp) {
+				hits += 1;
+				return index;
+			}
+			samples += 1;
+			Vec3 wind = ClientWindManager.getWindMovement(
+				level,
+				new Vec3(originX + x * SPACING, originY + y * SPACING, originZ + z * SPACING),
+				this.scale,
+				this.clamp,
+				this.windDisturbanceScale
+			);
+			this.windX[index] = (float) wind.x;
+			this.windY[index] = (float) wind.y;
+			this.windZ[index] = (float) wind.z;
+			this.stamps[index] = stamp;
+			return index;
+		}
+	}
+}